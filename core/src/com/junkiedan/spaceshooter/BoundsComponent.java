@@ -0,0 +1,15 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+// area the whole bounding box has to stay in while moving
+class BoundsComponent implements Component, Pool.Poolable {
+
+    float minX, minY, maxX, maxY;
+
+    @Override
+    public void reset() {
+        minX = minY = maxX = maxY = 0;
+    }
+}
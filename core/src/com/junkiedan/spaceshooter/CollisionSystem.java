@@ -0,0 +1,163 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Rectangle;
+
+class CollisionSystem extends EntitySystem {
+
+    private final EntityFactory entityFactory;
+    private final LaserSystem.Lasers playerLasers;
+    private final LaserSystem.Lasers enemyLasers;
+    private final ParticleSystem particleSystem;
+    private final TelemetryLog telemetryLog;
+
+    private ImmutableArray<Entity> enemyShips;
+    private ImmutableArray<Entity> playerShips;
+
+    // enemy bounding boxes copied into flat arrays once per update, so the laser loop
+    // does not look up the components of every enemy again for every laser
+    private float[] enemyX = new float[64], enemyY = new float[64], enemyWidth = new float[64], enemyHeight = new float[64];
+
+    CollisionSystem(EntityFactory entityFactory, LaserSystem laserSystem, ParticleSystem particleSystem,
+                    TelemetryLog telemetryLog) {
+        this.entityFactory = entityFactory;
+        this.playerLasers = laserSystem.playerLasers;
+        this.enemyLasers = laserSystem.enemyLasers;
+        this.particleSystem = particleSystem;
+        this.telemetryLog = telemetryLog;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        enemyShips = engine.getEntitiesFor(Family.all(EnemyComponent.class, TransformComponent.class,
+                ShieldComponent.class).get());
+        playerShips = engine.getEntitiesFor(Family.all(PlayerComponent.class, TransformComponent.class,
+                ShieldComponent.class).get());
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        int enemyCount = enemyShips.size();
+        if (enemyX.length < enemyCount) {
+            int capacity = Math.max(enemyCount, enemyX.length * 2);
+            enemyX = new float[capacity];
+            enemyY = new float[capacity];
+            enemyWidth = new float[capacity];
+            enemyHeight = new float[capacity];
+        }
+        float lowestEnemyY = Float.MAX_VALUE;
+        for (int j = 0; j < enemyCount; j++) {
+            Rectangle boundingBox = Mappers.transform.get(enemyShips.get(j)).boundingBox;
+            enemyX[j] = boundingBox.x;
+            enemyY[j] = boundingBox.y;
+            enemyWidth[j] = boundingBox.width;
+            enemyHeight[j] = boundingBox.height;
+            lowestEnemyY = Math.min(lowestEnemyY, boundingBox.y);
+        }
+
+        // removals are deferred until this system is done, so removed ships and lasers are skipped by hand
+        // for each player laser, check whether it intersects an enemy ship
+        float[] laserX = playerLasers.x, laserY = playerLasers.y;
+        float[] laserWidth = playerLasers.width, laserHeight = playerLasers.height;
+        for (int i = 0; i < playerLasers.count; i++) {
+            float laserLeft = laserX[i], laserRight = laserLeft + laserWidth[i];
+            float laserBottom = laserY[i], laserTop = laserBottom + laserHeight[i];
+            // lasers still below every enemy cannot hit any
+            if (laserTop <= lowestEnemyY || playerLasers.isRemoved(i)) {
+                continue;
+            }
+            for (int j = 0; j < enemyCount; j++) {
+                // same test as Rectangle.overlaps
+                if (enemyX[j] < laserRight
+                        && enemyX[j] + enemyWidth[j] > laserLeft
+                        && enemyY[j] < laserTop
+                        && enemyY[j] + enemyHeight[j] > laserBottom
+                        && !enemyShips.get(j).isScheduledForRemoval()) {
+                    // contact with enemy ship
+                    hitEnemyShip(enemyShips.get(j), laserLeft, laserTop);
+                    playerLasers.remove(i);
+                    break;
+                }
+            }
+        }
+
+        // for each enemy laser, check whether it intersects the player ship
+        laserX = enemyLasers.x;
+        laserY = enemyLasers.y;
+        laserWidth = enemyLasers.width;
+        laserHeight = enemyLasers.height;
+        for (int j = 0; j < playerShips.size(); j++) {
+            Entity playerShip = playerShips.get(j);
+            // a hit does not move the ship
+            Rectangle playerBoundingBox = Mappers.transform.get(playerShip).boundingBox;
+            float playerLeft = playerBoundingBox.x, playerRight = playerLeft + playerBoundingBox.width;
+            float playerBottom = playerBoundingBox.y, playerTop = playerBottom + playerBoundingBox.height;
+            for (int i = 0; i < enemyLasers.count; i++) {
+                // same test as Rectangle.overlaps
+                if (playerLeft < laserX[i] + laserWidth[i]
+                        && playerRight > laserX[i]
+                        && playerBottom < laserY[i] + laserHeight[i]
+                        && playerTop > laserY[i]
+                        && !enemyLasers.isRemoved(i)) {
+                    // contact with player ship
+                    hitPlayerShip(playerShip, laserX[i], laserY[i]);
+                    enemyLasers.remove(i);
+                }
+            }
+        }
+    }
+
+    // the sparks start from the point of the laser that hit
+    private void hitEnemyShip(Entity enemyShip, float laserX, float laserY) {
+        ShieldComponent shield = Mappers.shield.get(enemyShip);
+        if (shield.shield > 0) {
+            // shield absorbed the hit, sparks fly back towards the shooter
+            shield.shield--;
+            particleSystem.emit(ParticleSystem.SPARK, laserX, laserY, 8, 0f, -1f, 120f);
+            return;
+        }
+
+        Rectangle boundingBox = Mappers.transform.get(enemyShip).boundingBox;
+        entityFactory.createExplosion(boundingBox, false);
+        emitDebris(boundingBox);
+        telemetryLog.log(TelemetryLog.KILL, 0, 0f, boundingBox.x, boundingBox.y);
+        getEngine().removeEntity(enemyShip);
+
+        // increase score
+        for (int i = 0; i < playerShips.size(); i++) {
+            Mappers.player.get(playerShips.get(i)).score += 100;
+        }
+        telemetryLog.log(TelemetryLog.SCORE_DELTA, 100);
+    }
+
+    private void hitPlayerShip(Entity playerShip, float laserX, float laserY) {
+        ShieldComponent shield = Mappers.shield.get(playerShip);
+        if (shield.shield > 0) {
+            shield.shield--;
+            telemetryLog.log(TelemetryLog.DAMAGE_TAKEN, shield.shield, 0f, laserX, laserY);
+            particleSystem.emit(ParticleSystem.SPARK, laserX, laserY, 8, 0f, 1f, 120f);
+            return;
+        }
+
+        Rectangle boundingBox = Mappers.transform.get(playerShip).boundingBox;
+        entityFactory.createExplosion(boundingBox, true);
+        emitDebris(boundingBox);
+
+        // Add logic when player dies
+        PlayerComponent player = Mappers.player.get(playerShip);
+        shield.shield = 3;
+        player.lives--;
+        telemetryLog.log(TelemetryLog.LIFE_LOST, player.lives, 0f, boundingBox.x, boundingBox.y);
+    }
+
+    private void emitDebris(Rectangle boundingBox) {
+        particleSystem.emit(ParticleSystem.DEBRIS,
+                boundingBox.x + boundingBox.width / 2,
+                boundingBox.y + boundingBox.height / 2,
+                24, 0f, 1f, 360f);
+    }
+}
@@ -0,0 +1,7 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Component;
+
+// marks enemy ships
+class EnemyComponent implements Component {
+}
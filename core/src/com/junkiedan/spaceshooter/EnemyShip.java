@@ -1,69 +0,0 @@
-package com.junkiedan.spaceshooter;
-
-import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
-
-class EnemyShip extends Ship {
-
-    Vector2 directionVector;
-    float timeSinceLastDirectionChange = 0;
-    float directionChangeFrequency = 0.75f;
-
-    public EnemyShip(float movementSpeed, int shield,
-                      float width, float height,
-                      float xCenter, float yCenter,
-                      float laserWidth, float laserHeight,
-                      float laserMovementSpeed, float timeBetweenShots,
-                      TextureRegion shipTextureRegion, TextureRegion shieldTextureRegion,
-                      TextureRegion laserTextureRegion) {
-        super(movementSpeed, shield, width, height, xCenter, yCenter,
-                laserWidth, laserHeight, laserMovementSpeed, timeBetweenShots,
-                shipTextureRegion, shieldTextureRegion, laserTextureRegion);
-        directionVector = new Vector2(0, -1);
-    }
-
-    public Vector2 getDirectionVector() {
-        return directionVector;
-    }
-
-    private void randomizeDirectionVector() {
-        double bearing = SpaceShooterGame.random.nextDouble() * 6.283185; // 0 to 2 * PI
-        directionVector.x = (float) Math.sin(bearing);
-        directionVector.y = (float) Math.cos(bearing);
-    }
-
-    @Override
-    public void update(float deltaTime) {
-        super.update(deltaTime);
-
-        // check if it is the appropriate time to change direction
-        timeSinceLastDirectionChange += deltaTime;
-        if (timeSinceLastDirectionChange > directionChangeFrequency) {
-            // change direction
-            randomizeDirectionVector();
-            timeSinceLastDirectionChange -= directionChangeFrequency;
-        }
-    }
-
-    @Override
-    public Laser[] fireLasers() {
-        Laser[] laser = new Laser[2];
-        laser[0] = new Laser(boundingBox.x + boundingBox.width * 0.18f, boundingBox.y - laserHeight,
-                laserWidth, laserHeight, laserMovementSpeed, laserTextureRegion);
-        laser[1] = new Laser(boundingBox.x + boundingBox.width * 0.82f, boundingBox.y - laserHeight,
-                laserWidth, laserHeight, laserMovementSpeed, laserTextureRegion);
-
-        timeSinceLastShot = 0;
-
-        return laser;
-    }
-
-    @Override
-    public void draw (Batch batch) {
-        batch.draw(shipTextureRegion, boundingBox.x, boundingBox.y, boundingBox.width, boundingBox.height);
-        if (shield > 0) {
-            batch.draw(shieldTextureRegion, boundingBox.x, boundingBox.y - boundingBox.height * 0.3f, boundingBox.width, boundingBox.height);
-        }
-    }
-}
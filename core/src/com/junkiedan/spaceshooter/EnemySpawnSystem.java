@@ -0,0 +1,51 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Rectangle;
+
+class EnemySpawnSystem extends EntitySystem {
+
+    // timing
+    float timeBetweenEnemySpawns;
+    private float enemySpawnTimer = 0;
+
+    private final EntityFactory entityFactory;
+    private final TelemetryLog telemetryLog;
+
+    private ImmutableArray<Entity> enemies;
+
+    EnemySpawnSystem(float timeBetweenEnemySpawns, EntityFactory entityFactory, TelemetryLog telemetryLog) {
+        this.timeBetweenEnemySpawns = timeBetweenEnemySpawns;
+        this.entityFactory = entityFactory;
+        this.telemetryLog = telemetryLog;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        enemies = engine.getEntitiesFor(Family.all(EnemyComponent.class).get());
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        enemySpawnTimer += deltaTime;
+
+        if (enemySpawnTimer > timeBetweenEnemySpawns) {
+            spawnEnemyShip();
+            enemySpawnTimer -= timeBetweenEnemySpawns;
+        }
+    }
+
+    private void spawnEnemyShip() {
+        Entity enemyShip = entityFactory.createEnemyShip(
+                SpaceShooterGame.random.nextFloat() * (GameWorld.WORLD_WIDTH - 10) + 5,
+                GameWorld.WORLD_HEIGHT - 5);
+
+        // the new ship only joins the family once this system is done updating
+        Rectangle boundingBox = Mappers.transform.get(enemyShip).boundingBox;
+        telemetryLog.log(TelemetryLog.SPAWN, enemies.size() + 1, 0f, boundingBox.x, boundingBox.y);
+    }
+}
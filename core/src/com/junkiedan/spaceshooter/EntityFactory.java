@@ -0,0 +1,158 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+class EntityFactory {
+
+    private final PooledEngine engine;
+    private final GameAssets assets;
+
+    // explosion animations are stateless, one per duration is enough
+    private final Animation<TextureRegion> enemyExplosionAnimation, playerExplosionAnimation;
+
+    EntityFactory(PooledEngine engine, GameAssets assets) {
+        this.engine = engine;
+        this.assets = assets;
+        this.enemyExplosionAnimation = assets.createExplosionAnimation(0.7f);
+        this.playerExplosionAnimation = assets.createExplosionAnimation(1.6f);
+    }
+
+    Entity createPlayerShip(float xCenter, float yCenter) {
+        Entity entity = createShip(60, 3, 10, 10, xCenter, yCenter,
+                0.4f, 4, 70, 0.3f,
+                assets.playerShipTextureRegion, assets.playerShieldTextureRegion, assets.playerLaserTextureRegion);
+
+        // the player stays in the bottom half of the screen
+        setBounds(entity, 0, 0, GameWorld.WORLD_WIDTH, GameWorld.WORLD_HEIGHT / 2f);
+
+        WeaponComponent weapon = Mappers.weapon.get(entity);
+        weapon.leftMuzzleX = 0.07f;
+        weapon.rightMuzzleX = 0.93f;
+        weapon.muzzleY = 0.45f;
+        weapon.firesUp = true;
+
+        Mappers.sprite.get(entity).layer = SpriteComponent.LAYER_PLAYER_SHIP;
+
+        TrailComponent trail = engine.createComponent(TrailComponent.class);
+        trail.x = 0.5f;
+        trail.y = 0f;
+        trail.directionY = -1f;
+        entity.add(trail);
+
+        PlayerComponent player = engine.createComponent(PlayerComponent.class);
+        player.lives = 3;
+        entity.add(player);
+
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    Entity createEnemyShip(float xCenter, float yCenter) {
+        Entity entity = createShip(20, 1, 10, 10, xCenter, yCenter,
+                0.3f, 5, 50, 0.8f,
+                assets.enemyShipTextureRegion, assets.enemyShieldTextureRegion, assets.enemyLaserTextureRegion);
+
+        // enemies stay in the top half of the screen
+        setBounds(entity, 0, GameWorld.WORLD_HEIGHT / 2f, GameWorld.WORLD_WIDTH, GameWorld.WORLD_HEIGHT);
+
+        // start moving down, the wander system picks random directions from there
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        velocity.y = -velocity.movementSpeed;
+
+        WeaponComponent weapon = Mappers.weapon.get(entity);
+        weapon.leftMuzzleX = 0.18f;
+        weapon.rightMuzzleX = 0.82f;
+        weapon.muzzleY = 0f;
+        weapon.firesUp = false;
+
+        Mappers.shield.get(entity).yOffset = -0.3f;
+        Mappers.sprite.get(entity).layer = SpriteComponent.LAYER_ENEMY_SHIPS;
+
+        WanderComponent wander = engine.createComponent(WanderComponent.class);
+        wander.directionChangeFrequency = 0.75f;
+        entity.add(wander);
+
+        TrailComponent trail = engine.createComponent(TrailComponent.class);
+        trail.x = 0.5f;
+        trail.y = 1f;
+        trail.directionY = 1f;
+        entity.add(trail);
+
+        entity.add(engine.createComponent(EnemyComponent.class));
+
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    private Entity createShip(float movementSpeed, int shield,
+                              float width, float height,
+                              float xCenter, float yCenter,
+                              float laserWidth, float laserHeight,
+                              float laserMovementSpeed, float timeBetweenShots,
+                              TextureRegion shipTextureRegion, TextureRegion shieldTextureRegion,
+                              TextureRegion laserTextureRegion) {
+        Entity entity = engine.createEntity();
+
+        TransformComponent transform = engine.createComponent(TransformComponent.class);
+        transform.boundingBox.set(xCenter - width / 2, yCenter - height / 2, width, height);
+        transform.savePosition();
+        entity.add(transform);
+
+        VelocityComponent velocity = engine.createComponent(VelocityComponent.class);
+        velocity.movementSpeed = movementSpeed;
+        entity.add(velocity);
+
+        WeaponComponent weapon = engine.createComponent(WeaponComponent.class);
+        weapon.laserWidth = laserWidth;
+        weapon.laserHeight = laserHeight;
+        weapon.laserMovementSpeed = laserMovementSpeed;
+        weapon.timeBetweenShots = timeBetweenShots;
+        weapon.laserTextureRegion = laserTextureRegion;
+        entity.add(weapon);
+
+        ShieldComponent shieldComponent = engine.createComponent(ShieldComponent.class);
+        shieldComponent.shield = shield;
+        shieldComponent.shieldTextureRegion = shieldTextureRegion;
+        entity.add(shieldComponent);
+
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.textureRegion = shipTextureRegion;
+        entity.add(sprite);
+
+        return entity;
+    }
+
+    private void setBounds(Entity entity, float minX, float minY, float maxX, float maxY) {
+        BoundsComponent bounds = engine.createComponent(BoundsComponent.class);
+        bounds.minX = minX;
+        bounds.minY = minY;
+        bounds.maxX = maxX;
+        bounds.maxY = maxY;
+        entity.add(bounds);
+    }
+
+    Entity createExplosion(Rectangle rectangle, boolean playerShip) {
+        Entity entity = engine.createEntity();
+
+        TransformComponent transform = engine.createComponent(TransformComponent.class);
+        transform.boundingBox.set(rectangle);
+        transform.savePosition();
+        entity.add(transform);
+
+        ExplosionComponent explosion = engine.createComponent(ExplosionComponent.class);
+        explosion.explosionAnimation = playerShip ? playerExplosionAnimation : enemyExplosionAnimation;
+        entity.add(explosion);
+
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.textureRegion = explosion.explosionAnimation.getKeyFrame(0);
+        sprite.layer = SpriteComponent.LAYER_EXPLOSIONS;
+        entity.add(sprite);
+
+        engine.addEntity(entity);
+        return entity;
+    }
+}
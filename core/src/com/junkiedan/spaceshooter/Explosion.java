@@ -1,49 +0,0 @@
-package com.junkiedan.spaceshooter;
-
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Rectangle;
-
-class Explosion {
-
-    private Animation<TextureRegion> explosionAnimation;
-    private float explosionTimer;
-
-    private Rectangle boundingBox;
-
-    Explosion(Texture texture, Rectangle rectangle, float totalAnimationTime)  {
-        this.boundingBox = rectangle;
-
-        // split texture
-        TextureRegion[][] textureRegion2D = TextureRegion.split(texture, 64, 64);
-
-        // convert to 1D array
-        TextureRegion[] textureRegion1D = new TextureRegion[16];
-        int index = 0;
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                textureRegion1D[index] = textureRegion2D[i][j];
-                index++;
-            }
-        }
-
-        explosionAnimation = new Animation<>(totalAnimationTime / 16, textureRegion1D);
-        explosionTimer = 0;
-    }
-
-    public void update(float deltaTime) {
-        explosionTimer += deltaTime;
-    }
-
-    public void draw(SpriteBatch batch) {
-        batch.draw(explosionAnimation.getKeyFrame(explosionTimer),
-                boundingBox.x, boundingBox.y, boundingBox.width, boundingBox.height);
-    }
-
-    public boolean isFinished() {
-        return explosionAnimation.isAnimationFinished(explosionTimer);
-    }
-
-}
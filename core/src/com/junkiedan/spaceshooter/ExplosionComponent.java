@@ -0,0 +1,18 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
+
+class ExplosionComponent implements Component, Pool.Poolable {
+
+    Animation<TextureRegion> explosionAnimation;
+    float explosionTimer;
+
+    @Override
+    public void reset() {
+        explosionAnimation = null;
+        explosionTimer = 0;
+    }
+}
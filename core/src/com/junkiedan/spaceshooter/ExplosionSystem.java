@@ -0,0 +1,25 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+class ExplosionSystem extends IteratingSystem {
+
+    ExplosionSystem() {
+        super(Family.all(ExplosionComponent.class, SpriteComponent.class).get());
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        ExplosionComponent explosion = Mappers.explosion.get(entity);
+        explosion.explosionTimer += deltaTime;
+        if (explosion.explosionAnimation.isAnimationFinished(explosion.explosionTimer)) {
+            getEngine().removeEntity(entity);
+        }
+        else {
+            Mappers.sprite.get(entity).textureRegion =
+                    explosion.explosionAnimation.getKeyFrame(explosion.explosionTimer);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+// graphics shared by every entity, all null when the world runs without rendering
+class GameAssets {
+
+    TextureRegion playerShipTextureRegion, playerShieldTextureRegion,
+            enemyShipTextureRegion, enemyShieldTextureRegion,
+            playerLaserTextureRegion, enemyLaserTextureRegion,
+            debrisTextureRegion;
+
+    // explosion frames, split once and shared by every explosion
+    TextureRegion[] explosionFrames = new TextureRegion[16];
+
+    GameAssets() {
+    }
+
+    GameAssets(TextureAtlas textureAtlas, Texture explosionTexture) {
+        // initialize texture regions
+        playerShipTextureRegion = textureAtlas.findRegion("playerShip1_blue");
+        playerShieldTextureRegion = textureAtlas.findRegion("shield2");
+        playerLaserTextureRegion = textureAtlas.findRegion("laserBlue01");
+        enemyShipTextureRegion = textureAtlas.findRegion("enemyRed3");
+        enemyShieldTextureRegion = textureAtlas.findRegion("shield1");
+        // rotate enemy ship shield to face the right way
+        enemyShieldTextureRegion.flip(false, true);
+
+        enemyLaserTextureRegion = textureAtlas.findRegion("laserRed01");
+
+        // particles reuse atlas regions so they are drawn in the same batch as everything else,
+        // debris is a piece of the hull centre, the only part of the sprite that is fully opaque
+        int hullWidth = enemyShipTextureRegion.getRegionWidth() / 4;
+        int hullHeight = enemyShipTextureRegion.getRegionHeight() / 4;
+        debrisTextureRegion = new TextureRegion(enemyShipTextureRegion,
+                (enemyShipTextureRegion.getRegionWidth() - hullWidth) / 2,
+                (enemyShipTextureRegion.getRegionHeight() - hullHeight) / 2,
+                hullWidth, hullHeight);
+
+        // split explosion texture and convert to 1D array
+        TextureRegion[][] textureRegion2D = TextureRegion.split(explosionTexture, 64, 64);
+        int index = 0;
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                explosionFrames[index] = textureRegion2D[i][j];
+                index++;
+            }
+        }
+    }
+
+    Animation<TextureRegion> createExplosionAnimation(float totalAnimationTime) {
+        return new Animation<>(totalAnimationTime / explosionFrames.length, explosionFrames);
+    }
+}
@@ -1,7 +1,7 @@
 package com.junkiedan.spaceshooter;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Color;
@@ -11,17 +11,11 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeType;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
-import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.ListIterator;
 import java.util.Locale;
 
 class GameScreen implements Screen {
@@ -34,36 +28,34 @@ class GameScreen implements Screen {
     private TextureAtlas textureAtlas;
     private Texture explosionTexture;
 
-    private TextureRegion[] backgrounds;
-    private TextureRegion playerShipTextureRegion, playerShieldTextureRegion,
-            enemyShipTextureRegion, enemyShieldTextureRegion,
-            playerLaserTextureRegion, enemyLaserTextureRegion;
+    private ParallaxBackground background;
 
     // timing
-    private float[] backgroundOffsets = {0,0,0,0};
-    private float backgroundMaxScrollingSpeed;
-    private float timeBetweenEnemySpawns = 1f;
-    private float enemySpawnTimer = 0;
+    private float tickAccumulator = 0;
+    private float debugReportTimer = 0;
 
     // world parameters
-    private final int WORLD_WIDTH = 72;
-    private final int WORLD_HEIGHT = 128;
-    private final float TOUCH_MOVEMENT_THRESHOLD = 0.5f;
+    private final int WORLD_WIDTH = GameWorld.WORLD_WIDTH;
+    private final int WORLD_HEIGHT = GameWorld.WORLD_HEIGHT;
+    private final float TICK_DURATION = GameWorld.TICK_DURATION;
+    private final float MAX_FRAME_TIME = 0.25f;
+    private final float DEBUG_REPORT_INTERVAL = 5f;
+    private final int FRAMES_PER_FRAME_TIME_SAMPLE = 10;
 
     // game objects
-    private PlayerShip playerShip;
-    private LinkedList<EnemyShip> enemyShipList;
-    private LinkedList<Laser> playerLaserList;
-    private LinkedList<Laser> enemyLaserList;
-    private LinkedList<Explosion> explosionList;
+    private GameWorld world;
+    private RenderSystem renderSystem;
 
-    private int score = 0;
+    // telemetry
+    private final TelemetryLog telemetryLog;
+    private int framesSinceFrameTimeSample = 0;
 
     // Heads - Up Display (HUD)
     BitmapFont font;
     float hudVerticalMargin, hudLeftX, hudRightX, hudCenterX, hudRow1Y, hudRow2Y, hudSectionWidth;
 
-    GameScreen() {
+    GameScreen(TelemetryLog telemetryLog) {
+        this.telemetryLog = telemetryLog;
 
         camera = new OrthographicCamera();
         viewport = new StretchViewport(WORLD_WIDTH, WORLD_HEIGHT, camera);
@@ -71,43 +63,34 @@ class GameScreen implements Screen {
         // set up the texture atlas
         textureAtlas = new TextureAtlas(Gdx.files.internal("Images.atlas"));
 
-        backgrounds = new TextureRegion[4];
+        TextureRegion[] backgrounds = new TextureRegion[4];
 
         backgrounds[0] = textureAtlas.findRegion("Starscape00");
         backgrounds[1] = textureAtlas.findRegion("Starscape01");
         backgrounds[2] = textureAtlas.findRegion("Starscape02");
         backgrounds[3] = textureAtlas.findRegion("Starscape03");
 
-        backgroundMaxScrollingSpeed = WORLD_HEIGHT / 4f;
+        float backgroundMaxScrollingSpeed = WORLD_HEIGHT / 4f;
+        background = new ParallaxBackground(backgrounds, new float[]{
+                backgroundMaxScrollingSpeed / 8f,
+                backgroundMaxScrollingSpeed / 4f,
+                backgroundMaxScrollingSpeed / 2f,
+                backgroundMaxScrollingSpeed}, WORLD_WIDTH, WORLD_HEIGHT);
 
         // initialize explosion texture
         explosionTexture = new Texture(Gdx.files.internal("explosion.png"));
 
-        // initialize texture regions
-        playerShipTextureRegion = textureAtlas.findRegion("playerShip1_blue");
-        playerShieldTextureRegion = textureAtlas.findRegion("shield2");
-        playerLaserTextureRegion = textureAtlas.findRegion("laserBlue01");
-        enemyShipTextureRegion = textureAtlas.findRegion("enemyRed3");
-        enemyShieldTextureRegion = textureAtlas.findRegion("shield1");
-        // rotate enemy ship shield to face the right way
-        enemyShieldTextureRegion.flip(false, true);
-
-        enemyLaserTextureRegion = textureAtlas.findRegion("laserRed01");
-
         // set up game objects
-        playerShip = new PlayerShip(60, 3, 10, 10,
-                WORLD_WIDTH / 2f, WORLD_HEIGHT / 4f,
-                0.4f, 4, 70, 0.3f,
-                playerShipTextureRegion, playerShieldTextureRegion, playerLaserTextureRegion);
-        enemyShipList = new LinkedList<>();
-
-
-        playerLaserList = new LinkedList<>();
-        enemyLaserList = new LinkedList<>();
-        explosionList = new LinkedList<>();
+        world = new GameWorld(new GameAssets(textureAtlas, explosionTexture), viewport, telemetryLog);
+        // per system timings are only reported in debug builds
+        world.systemProfiler.setEnabled(Gdx.app.getLogLevel() >= Application.LOG_DEBUG);
 
         batch = new SpriteBatch();
 
+        // the render system is drawn once per frame rather than updated with each tick
+        renderSystem = new RenderSystem(batch, world.laserSystem, world.particleSystem);
+        world.engine.addSystem(renderSystem);
+
         prepareHUD();
     }
 
@@ -138,39 +121,27 @@ class GameScreen implements Screen {
 
     @Override
     public void render(float delta) {
-        batch.begin();
-
-        // scrolling background
-        renderBackground(delta);
-
-        // detect input
-        detectInput(delta);
-
-        playerShip.update(delta);
-
-        spawnEnemyShips(delta);
-
-        for (EnemyShip enemyShip : enemyShipList) {
-            // move enemies
-            moveEnemy(enemyShip, delta);
-
-            enemyShip.update(delta);
-
-            // enemy ships
-            enemyShip.draw(batch);
+        // frame time samples
+        if (++framesSinceFrameTimeSample >= FRAMES_PER_FRAME_TIME_SAMPLE) {
+            telemetryLog.log(TelemetryLog.FRAME_TIME, 0, delta, 0f, 0f);
+            framesSinceFrameTimeSample = 0;
         }
 
-        // player ship
-        playerShip.draw(batch);
+        // advance the simulation in fixed ticks, independently of the frame rate
+        tickAccumulator += Math.min(delta, MAX_FRAME_TIME);
+        while (tickAccumulator >= TICK_DURATION) {
+            world.tick(TICK_DURATION);
+            tickAccumulator -= TICK_DURATION;
+        }
+        reportDebugStats(delta);
 
-        // lasers
-        renderLasers(delta);
+        batch.begin();
 
-        // detect collisions between lasers and ships
-        detectCollision();
+        // scrolling background
+        renderBackground(delta);
 
-        // explosions
-        updateAndRenderExplosions(delta);
+        // ships, lasers, particles and explosions, between the last two ticks by the time left over
+        renderSystem.render(tickAccumulator / TICK_DURATION);
 
         // render HUD
         updateAndRenderHUD();
@@ -179,256 +150,46 @@ class GameScreen implements Screen {
     }
 
     private void renderBackground(float delta) {
-
-        backgroundOffsets[0] += delta * backgroundMaxScrollingSpeed / 8f;
-        backgroundOffsets[1] += delta * backgroundMaxScrollingSpeed / 4f;
-        backgroundOffsets[2] += delta * backgroundMaxScrollingSpeed / 2f;
-        backgroundOffsets[3] += delta * backgroundMaxScrollingSpeed;
-
-        for (int layer = 0; layer < backgroundOffsets.length; layer++) {
-            if (backgroundOffsets[layer] > WORLD_HEIGHT) {
-                backgroundOffsets[layer] = 0f;
-            }
-            batch.draw(backgrounds[layer],
-                    0,
-                    -backgroundOffsets[layer],
-                    WORLD_WIDTH, WORLD_HEIGHT);
-            batch.draw(backgrounds[layer],
-                    0,
-                    -backgroundOffsets[layer] + WORLD_HEIGHT,
-                    WORLD_WIDTH, WORLD_HEIGHT);
-        }
-
-    }
-
-    private void renderLasers(float delta) {
-        // create new lasers (if necessary)
-        // player lasers
-        if (playerShip.canFireLaser()) {
-            Laser[] lasers = playerShip.fireLasers();
-            playerLaserList.addAll(Arrays.asList(lasers));
-        }
-
-        // enemy lasers
-        for (EnemyShip enemyShip : enemyShipList) {
-            if (enemyShip.canFireLaser()) {
-                Laser[] lasers = enemyShip.fireLasers();
-                enemyLaserList.addAll(Arrays.asList(lasers));
-            }
-        }
-
-        // draw lasers
-        // remove old lasers (f.e. when they get out of the screen
-        ListIterator<Laser> iterator = playerLaserList.listIterator();
-        while (iterator.hasNext()) {
-            Laser laser = iterator.next();
-            laser.draw(batch);
-            laser.boundingBox.y += laser.movementSpeed * delta;
-            if (laser.boundingBox.y > WORLD_HEIGHT) {
-                iterator.remove();
-            }
-        }
-
-        iterator = enemyLaserList.listIterator();
-        while (iterator.hasNext()) {
-            Laser laser = iterator.next();
-            laser.draw(batch);
-            laser.boundingBox.y -= laser.movementSpeed * delta;
-            if (laser.boundingBox.y + laser.boundingBox.height < 0) {
-                iterator.remove();
-            }
-        }
-    }
-
-    private void detectCollision() {
-        // for each player laser, check whether it intersects an enemy ship
-        ListIterator<Laser> iterator = playerLaserList.listIterator();
-        while (iterator.hasNext()) {
-            Laser laser = iterator.next();
-            ListIterator<EnemyShip> enemyShipListIterator = enemyShipList.listIterator();
-            while (enemyShipListIterator.hasNext()) {
-                EnemyShip enemyShip = enemyShipListIterator.next();
-                if (enemyShip.intersects(laser.boundingBox)) {
-                    // contact with enemy ship
-                    if (enemyShip.hitAndCheckDestroyed(laser)) {
-                        enemyShipListIterator.remove();
-                        explosionList.add(new Explosion(explosionTexture,
-                                new Rectangle(enemyShip.boundingBox), 0.7f));
-                        // increase score
-                        score += 100;
-                    }
-                    iterator.remove();
-                    break;
-                }
-            }
-        }
-
-        // for each enemy laser, check whether it intersects the player ship
-        iterator = enemyLaserList.listIterator();
-        while (iterator.hasNext()) {
-            Laser laser = iterator.next();
-            if (playerShip.intersects(laser.boundingBox)) {
-                // contact with player ship
-                if (playerShip.hitAndCheckDestroyed(laser)) {
-                    explosionList.add(new Explosion(explosionTexture,
-                            new Rectangle(playerShip.boundingBox), 1.6f));
-
-                    // Add logic when player dies
-                    playerShip.shield = 3;
-                    playerShip.lives--;
-                }
-                iterator.remove();
-            }
-        }
-    }
-
-    private void spawnEnemyShips(float delta) {
-        enemySpawnTimer += delta;
-
-        if (enemySpawnTimer > timeBetweenEnemySpawns) {
-            enemyShipList.add(new EnemyShip(20, 1, 10, 10,
-                    SpaceShooterGame.random.nextFloat() * (WORLD_WIDTH - 10) + 5,
-                    WORLD_HEIGHT - 5,
-                    0.3f, 5, 50, 0.8f,
-                    enemyShipTextureRegion, enemyShieldTextureRegion, enemyLaserTextureRegion));
-
-            enemySpawnTimer -= timeBetweenEnemySpawns;
-        }
-
-
-    }
-
-    private void updateAndRenderExplosions(float delta) {
-        ListIterator<Explosion> explosionListIterator = explosionList.listIterator();
-        while (explosionListIterator.hasNext()) {
-            Explosion explosion = explosionListIterator.next();
-            explosion.update(delta);
-            if (explosion.isFinished()) {
-                explosionListIterator.remove();
-            }
-            else {
-                explosion.draw(batch);
-            }
-        }
+        background.update(delta);
+        background.draw(batch);
     }
 
     private void updateAndRenderHUD() {
+        PlayerComponent player = world.getPlayer();
+
         // render 1st row
         font.draw(batch, "Score", hudLeftX, hudRow1Y, hudSectionWidth, Align.left, false);
         font.draw(batch, "Shield", hudCenterX, hudRow1Y, hudSectionWidth, Align.center, false);
         font.draw(batch, "Lives", hudRightX, hudRow1Y, hudSectionWidth, Align.right, false);
 
         // render 2nd row
-        font.draw(batch, String.format(Locale.getDefault(), "%06d", score), hudLeftX,
+        font.draw(batch, String.format(Locale.getDefault(), "%06d", player.score), hudLeftX,
                 hudRow2Y, hudSectionWidth, Align.left, false);
-        font.draw(batch, String.format(Locale.getDefault(), "%02d", playerShip.shield), hudCenterX,
+        font.draw(batch, String.format(Locale.getDefault(), "%02d", world.getPlayerShield()), hudCenterX,
                 hudRow2Y, hudSectionWidth, Align.center, false);
-        font.draw(batch, String.format(Locale.getDefault(), "%02d", playerShip.lives), hudRightX,
+        font.draw(batch, String.format(Locale.getDefault(), "%02d", player.lives), hudRightX,
                 hudRow2Y, hudSectionWidth, Align.right, false);
 
     }
 
-    private void detectInput(float delta) {
-        // keyboard input
-
-        // strategy: determine the max distance the ship can move (on each direction)
-        // check each possible key stroke that matters and move accordingly
-        float leftLimit, rightLimit, upLimit, downLimit;
-        leftLimit = -playerShip.boundingBox.x;
-        downLimit = -playerShip.boundingBox.y;
-        rightLimit = WORLD_WIDTH - playerShip.boundingBox.x - playerShip.boundingBox.width;
-        upLimit = WORLD_HEIGHT / 2.0f - playerShip.boundingBox.y - playerShip.boundingBox.height;
+    private void reportDebugStats(float delta) {
+        debugReportTimer += delta;
+        if (debugReportTimer > DEBUG_REPORT_INTERVAL) {
+            InputState inputState = world.inputState;
+            Gdx.app.debug("Input", String.format(Locale.US,
+                    "input to movement latency: avg %.2f ms, max %.2f ms, dropped events %d",
+                    inputState.getAverageLatencyNanos() / 1e6f, inputState.getMaxLatencyNanos() / 1e6f,
+                    world.inputEventQueue.getDroppedEvents()));
+            inputState.resetLatency();
 
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT) && rightLimit > 0) {
-            playerShip.translate(Math.min(delta * playerShip.movementSpeed, rightLimit), 0f);
-        }
-
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT) && leftLimit < 0) {
-            playerShip.translate(Math.max(-delta * playerShip.movementSpeed, leftLimit), 0f);
-        }
-
-        if (Gdx.input.isKeyPressed(Input.Keys.UP) && upLimit > 0) {
-            playerShip.translate(0f, Math.min(delta * playerShip.movementSpeed, upLimit));
-        }
-
-        if (Gdx.input.isKeyPressed(Input.Keys.DOWN) && downLimit < 0) {
-            playerShip.translate(0f, Math.max(-delta * playerShip.movementSpeed, downLimit));
-        }
-
-        // touch - mouse input
-        if (Gdx.input.isTouched()) {
-            // get the screen position of the touch
-            float xTouchPixels = Gdx.input.getX();
-            float yTouchPixels = Gdx.input.getY();
-
-            // convert to world position
-            Vector2 touchPoint = new Vector2(xTouchPixels, yTouchPixels);
-            touchPoint = viewport.unproject(touchPoint);
-
-            // calculate the x and y differences
-            Vector2 playerShipCenter = new Vector2(playerShip.boundingBox.x + playerShip.boundingBox.width / 2,
-                    playerShip.boundingBox.y + playerShip.boundingBox.height / 2);
-            float touchDistance = touchPoint.dst(playerShipCenter);
-            if (touchDistance > TOUCH_MOVEMENT_THRESHOLD) {
-                float xTouchDifference = touchPoint.x - playerShipCenter.x;
-                float yTouchDifference = touchPoint.y - playerShipCenter.y;
-
-                // scale to the maximum speed of the ship
-                float xMove = xTouchDifference / touchDistance * playerShip.movementSpeed * delta;
-                float yMove = yTouchDifference / touchDistance * playerShip.movementSpeed * delta;
-
-                // do not move out of bounds
-                if (xMove > 0) {
-                    xMove = Math.min(xMove, rightLimit);
-                }
-                else {
-                    xMove = Math.max(xMove, leftLimit);
-                }
-
-                if (yMove > 0) {
-                    yMove = Math.min(yMove, upLimit);
-                }
-                else {
-                    yMove = Math.max(yMove, downLimit);
-                }
-
-                // actually move the ship
-                playerShip.translate(xMove, yMove);
+            if (world.systemProfiler.isEnabled()) {
+                Gdx.app.debug("Systems", "per tick, " + world.getEntityCount() + " entities\n"
+                        + world.systemProfiler.report());
+                world.systemProfiler.reset();
             }
-        }
-
-    }
-
-    private void moveEnemy(EnemyShip enemyShip, float delta) {
-
-        // strategy: determine the max distance the ship can move (on each direction)
-        float leftLimit, rightLimit, upLimit, downLimit;
-        leftLimit = -enemyShip.boundingBox.x;
-        downLimit = WORLD_HEIGHT / 2.0f - enemyShip.boundingBox.y;
-        rightLimit = WORLD_WIDTH - enemyShip.boundingBox.x - enemyShip.boundingBox.width;
-        upLimit = WORLD_HEIGHT - enemyShip.boundingBox.y - enemyShip.boundingBox.height;
 
-        // scale to the maximum speed of the ship
-        float xMove = enemyShip.getDirectionVector().x * enemyShip.movementSpeed * delta;
-        float yMove = enemyShip.getDirectionVector().y * enemyShip.movementSpeed * delta;
-
-        // do not move out of bounds
-        if (xMove > 0) {
-            xMove = Math.min(xMove, rightLimit);
-        }
-        else {
-            xMove = Math.max(xMove, leftLimit);
-        }
-
-        if (yMove > 0) {
-            yMove = Math.min(yMove, upLimit);
-        }
-        else {
-            yMove = Math.max(yMove, downLimit);
+            debugReportTimer -= DEBUG_REPORT_INTERVAL;
         }
-
-        // actually move the ship
-        enemyShip.translate(xMove, yMove);
     }
 
     @Override
@@ -439,7 +200,7 @@ class GameScreen implements Screen {
 
     @Override
     public void pause() {
-
+        telemetryLog.flush();
     }
 
     @Override
@@ -449,7 +210,7 @@ class GameScreen implements Screen {
 
     @Override
     public void hide() {
-
+        Gdx.input.setInputProcessor(null);
     }
 
     @Override
@@ -459,6 +220,6 @@ class GameScreen implements Screen {
 
     @Override
     public void show() {
-
+        Gdx.input.setInputProcessor(world.inputEventQueue);
     }
 }
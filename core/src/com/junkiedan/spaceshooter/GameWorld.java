@@ -0,0 +1,92 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+// the simulation: entities, systems and the input feeding them, without any rendering
+class GameWorld {
+
+    // world parameters
+    static final int WORLD_WIDTH = 72;
+    static final int WORLD_HEIGHT = 128;
+    // the simulation always advances in ticks of this length, whatever the frame rate
+    static final float TICK_DURATION = 1 / 120f;
+    private static final int MAX_PARTICLES = 1024;
+
+    final PooledEngine engine;
+    final EntityFactory entityFactory;
+    final LaserSystem laserSystem;
+    final ParticleSystem particleSystem;
+    final SystemProfiler systemProfiler;
+
+    // input
+    final InputEventQueue inputEventQueue;
+    final InputState inputState;
+    private InputRecording inputReplay;
+
+    private final Entity playerShip;
+
+    GameWorld(GameAssets assets, Viewport viewport, TelemetryLog telemetryLog) {
+        engine = new PooledEngine();
+        entityFactory = new EntityFactory(engine, assets);
+        laserSystem = new LaserSystem();
+        particleSystem = new ParticleSystem(MAX_PARTICLES, assets.enemyLaserTextureRegion,
+                assets.playerLaserTextureRegion, assets.debrisTextureRegion, SpaceShooterGame.random);
+
+        // input events are buffered as they arrive and drained once per simulation tick
+        inputEventQueue = new InputEventQueue(256);
+        inputState = new InputState();
+
+        // systems, in update order
+        systemProfiler = new SystemProfiler(engine);
+        systemProfiler.addSystem(new PlayerControlSystem(inputState, viewport));
+        systemProfiler.addSystem(new EnemySpawnSystem(1f, entityFactory, telemetryLog));
+        systemProfiler.addSystem(new ShipSystem(laserSystem));
+        systemProfiler.addSystem(laserSystem);
+        systemProfiler.addSystem(new CollisionSystem(entityFactory, laserSystem, particleSystem, telemetryLog));
+        systemProfiler.addSystem(new ExplosionSystem());
+        systemProfiler.addSystem(new ParticleEffectsSystem(particleSystem));
+
+        // set up game objects
+        playerShip = entityFactory.createPlayerShip(WORLD_WIDTH / 2f, WORLD_HEIGHT / 4f);
+    }
+
+    void tick(float delta) {
+        // detect input
+        if (inputReplay != null) {
+            inputReplay.replay(inputState.getTick(), inputEventQueue);
+        }
+        inputEventQueue.drain(inputState);
+
+        systemProfiler.update(delta);
+
+        inputState.endTick();
+    }
+
+    void recordInput(InputRecording recording) {
+        inputState.setRecording(recording);
+    }
+
+    void replayInput(InputRecording recording) {
+        recording.rewind();
+        inputReplay = recording;
+    }
+
+    Entity getPlayerShip() {
+        return playerShip;
+    }
+
+    PlayerComponent getPlayer() {
+        return Mappers.player.get(playerShip);
+    }
+
+    int getPlayerShield() {
+        return Mappers.shield.get(playerShip).shield;
+    }
+
+    // lasers included, although they are not entities
+    int getEntityCount() {
+        return engine.getEntities().size() + laserSystem.getCount();
+    }
+}
@@ -0,0 +1,124 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class InputEventQueue implements InputProcessor {
+
+    // event types
+    static final int KEY_DOWN = 0;
+    static final int KEY_UP = 1;
+    static final int TOUCH_DOWN = 2;
+    static final int TOUCH_UP = 3;
+    static final int TOUCH_DRAGGED = 4;
+
+    interface Listener {
+        void onInputEvent(int type, int code, int screenX, int screenY, long timeNanos);
+    }
+
+    // ring buffer storage, capacity is a power of two so indices can be masked
+    private final int mask;
+    private final int[] types, codes, screenXs, screenYs;
+    private final long[] times;
+
+    // single producer / single consumer: the producer only writes tail and the consumer only
+    // writes head. Input callbacks, bots and replays all post from the render thread, which
+    // makes them one producer; post must not be called from any other thread
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private volatile int droppedEvents = 0;
+
+    InputEventQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        mask = size - 1;
+        types = new int[size];
+        codes = new int[size];
+        screenXs = new int[size];
+        screenYs = new int[size];
+        times = new long[size];
+    }
+
+    public boolean post(int type, int code, int screenX, int screenY, long timeNanos) {
+        long currentTail = tail.get();
+        if (currentTail - head.get() > mask) {
+            // full, keep the events we already have rather than blocking the producer
+            droppedEvents++;
+            return false;
+        }
+        int index = (int) (currentTail & mask);
+        types[index] = type;
+        codes[index] = code;
+        screenXs[index] = screenX;
+        screenYs[index] = screenY;
+        times[index] = timeNanos;
+        // publish the slot after it has been written
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    public int drain(Listener listener) {
+        long currentHead = head.get();
+        long currentTail = tail.get();
+        for (long i = currentHead; i < currentTail; i++) {
+            int index = (int) (i & mask);
+            listener.onInputEvent(types[index], codes[index], screenXs[index], screenYs[index], times[index]);
+        }
+        // release the slots back to the producer
+        head.lazySet(currentTail);
+        return (int) (currentTail - currentHead);
+    }
+
+    public int getDroppedEvents() {
+        return droppedEvents;
+    }
+
+    // when the backend received the event, it may have waited a while before being dispatched
+    // on the render thread, so the dispatch time would hide part of the latency
+    private static long eventTime() {
+        long eventTime = Gdx.input != null ? Gdx.input.getCurrentEventTime() : 0;
+        return eventTime != 0 ? eventTime : TimeUtils.nanoTime();
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        return post(KEY_DOWN, keycode, 0, 0, eventTime());
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        return post(KEY_UP, keycode, 0, 0, eventTime());
+    }
+
+    @Override
+    public boolean keyTyped(char character) {
+        return false;
+    }
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        return post(TOUCH_DOWN, pointer, screenX, screenY, eventTime());
+    }
+
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        return post(TOUCH_UP, pointer, screenX, screenY, eventTime());
+    }
+
+    @Override
+    public boolean touchDragged(int screenX, int screenY, int pointer) {
+        return post(TOUCH_DRAGGED, pointer, screenX, screenY, eventTime());
+    }
+
+    @Override
+    public boolean mouseMoved(int screenX, int screenY) {
+        return false;
+    }
+
+    @Override
+    public boolean scrolled(float amountX, float amountY) {
+        return false;
+    }
+}
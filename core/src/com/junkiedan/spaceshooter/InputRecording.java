@@ -0,0 +1,48 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.TimeUtils;
+
+class InputRecording {
+
+    // events in the order they were applied, five ints each: tick, type, code, screenX, screenY
+    private final IntArray events = new IntArray();
+
+    // replay position, in events
+    private int replayIndex = 0;
+
+    public void record(int tick, int type, int code, int screenX, int screenY) {
+        events.add(tick);
+        events.add(type);
+        events.add(code);
+        events.add(screenX);
+        events.add(screenY);
+    }
+
+    // posts every event recorded for the given tick, to be drained in that same tick
+    public int replay(int tick, InputEventQueue queue) {
+        int posted = 0;
+        long now = TimeUtils.nanoTime();
+        while (replayIndex < events.size && events.get(replayIndex) <= tick) {
+            if (events.get(replayIndex) == tick) {
+                queue.post(events.get(replayIndex + 1), events.get(replayIndex + 2),
+                        events.get(replayIndex + 3), events.get(replayIndex + 4), now);
+                posted++;
+            }
+            replayIndex += 5;
+        }
+        return posted;
+    }
+
+    public boolean isReplayFinished() {
+        return replayIndex >= events.size;
+    }
+
+    public void rewind() {
+        replayIndex = 0;
+    }
+
+    public int getEventCount() {
+        return events.size / 5;
+    }
+}
@@ -0,0 +1,136 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.gdx.Input;
+
+class InputState implements InputEventQueue.Listener {
+
+    // keys held after the drained events, and keys pressed at any point during the tick,
+    // so a tap shorter than a tick still moves the ship for that tick
+    private final boolean[] keysHeld = new boolean[Input.Keys.MAX_KEYCODE + 1];
+    private final boolean[] keysPressedThisTick = new boolean[Input.Keys.MAX_KEYCODE + 1];
+    private boolean keyPressedThisTick = false; // most ticks have none, then there is nothing to clear
+
+    // touch (only the first pointer steers the ship)
+    private boolean touching = false;
+    private boolean touchedThisTick = false;
+    private int touchX, touchY;
+
+    // latency: time of the oldest event consumed this tick, 0 if there was none
+    private long oldestEventTime = 0;
+    private long lastLatency = 0, maxLatency = 0, totalLatency = 0;
+    private int latencySamples = 0;
+
+    // optional recording of every applied event, for bots and replays
+    private InputRecording recording;
+    private int tick = 0;
+
+    @Override
+    public void onInputEvent(int type, int code, int screenX, int screenY, long timeNanos) {
+        switch (type) {
+            case InputEventQueue.KEY_DOWN:
+                if (code >= 0 && code < keysHeld.length) {
+                    keysHeld[code] = true;
+                    keysPressedThisTick[code] = true;
+                    keyPressedThisTick = true;
+                }
+                break;
+            case InputEventQueue.KEY_UP:
+                if (code >= 0 && code < keysHeld.length) {
+                    keysHeld[code] = false;
+                }
+                break;
+            case InputEventQueue.TOUCH_DOWN:
+            case InputEventQueue.TOUCH_DRAGGED:
+                if (code != 0) {
+                    return;
+                }
+                touching = true;
+                touchedThisTick = true;
+                touchX = screenX;
+                touchY = screenY;
+                break;
+            case InputEventQueue.TOUCH_UP:
+                if (code != 0) {
+                    return;
+                }
+                touching = false;
+                touchX = screenX;
+                touchY = screenY;
+                break;
+            default:
+                return;
+        }
+
+        if (oldestEventTime == 0 || timeNanos < oldestEventTime) {
+            oldestEventTime = timeNanos;
+        }
+        if (recording != null) {
+            recording.record(tick, type, code, screenX, screenY);
+        }
+    }
+
+    public boolean isKeyActive(int keycode) {
+        return keysHeld[keycode] || keysPressedThisTick[keycode];
+    }
+
+    public boolean isTouchActive() {
+        return touching || touchedThisTick;
+    }
+
+    public int getTouchX() {
+        return touchX;
+    }
+
+    public int getTouchY() {
+        return touchY;
+    }
+
+    // called when input moved the ship, measures from the oldest event applied this tick
+    public void movementApplied(long timeNanos) {
+        if (oldestEventTime == 0) {
+            return;
+        }
+        lastLatency = timeNanos - oldestEventTime;
+        maxLatency = Math.max(maxLatency, lastLatency);
+        totalLatency += lastLatency;
+        latencySamples++;
+        oldestEventTime = 0;
+    }
+
+    public void endTick() {
+        if (keyPressedThisTick) {
+            for (int i = 0; i < keysPressedThisTick.length; i++) {
+                keysPressedThisTick[i] = false;
+            }
+            keyPressedThisTick = false;
+        }
+        touchedThisTick = false;
+        oldestEventTime = 0;
+        tick++;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public void setRecording(InputRecording recording) {
+        this.recording = recording;
+    }
+
+    public long getLastLatencyNanos() {
+        return lastLatency;
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatency;
+    }
+
+    public long getAverageLatencyNanos() {
+        return latencySamples == 0 ? 0 : totalLatency / latencySamples;
+    }
+
+    public void resetLatency() {
+        lastLatency = maxLatency = totalLatency = 0;
+        latencySamples = 0;
+    }
+}
@@ -0,0 +1,125 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.Arrays;
+
+// Lasers are most of what is in flight and all alike, so like the particles they are kept in
+// flat arrays rather than as entities: one pass moves them, ages them and drops the ones that
+// are gone, and the collision system, the renderer and the playtest bot read the arrays directly.
+class LaserSystem extends EntitySystem {
+
+    final Lasers playerLasers = new Lasers();
+    final Lasers enemyLasers = new Lasers();
+
+    void fire(float xCenter, float yBottom, WeaponComponent weapon, boolean firedByPlayer) {
+        // lasers fly straight, so we know when they will be out of the screen
+        float timeLeft;
+        if (weapon.firesUp) {
+            timeLeft = (GameWorld.WORLD_HEIGHT - yBottom) / weapon.laserMovementSpeed;
+        }
+        else {
+            timeLeft = (yBottom + weapon.laserHeight) / weapon.laserMovementSpeed;
+        }
+        (firedByPlayer ? playerLasers : enemyLasers).add(xCenter - weapon.laserWidth / 2, yBottom,
+                weapon.laserWidth, weapon.laserHeight,
+                weapon.firesUp ? weapon.laserMovementSpeed : -weapon.laserMovementSpeed,
+                timeLeft, weapon.laserTextureRegion);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        playerLasers.update(deltaTime);
+        enemyLasers.update(deltaTime);
+    }
+
+    // draws the lasers where they were the given time before the last update
+    void draw(Batch batch, float timeBeforeUpdate) {
+        enemyLasers.draw(batch, timeBeforeUpdate);
+        playerLasers.draw(batch, timeBeforeUpdate);
+    }
+
+    int getCount() {
+        return playerLasers.count + enemyLasers.count;
+    }
+
+    // the lasers fired by one side, packed in [0, count) in no particular order. A laser that hit something is removed
+    // by setting its time left below 0, it is skipped from then on and dropped by the next update
+    static class Lasers {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        int count = 0;
+        float[] x = new float[INITIAL_CAPACITY], y = new float[INITIAL_CAPACITY]; // bottom left corner
+        float[] width = new float[INITIAL_CAPACITY], height = new float[INITIAL_CAPACITY];
+        float[] velocityY = new float[INITIAL_CAPACITY]; // world units per second
+        float[] timeLeft = new float[INITIAL_CAPACITY]; // seconds
+        private TextureRegion[] regions = new TextureRegion[INITIAL_CAPACITY];
+
+        boolean isRemoved(int index) {
+            return timeLeft[index] < 0;
+        }
+
+        void remove(int index) {
+            timeLeft[index] = -1;
+        }
+
+        private void add(float laserX, float laserY, float laserWidth, float laserHeight,
+                         float laserVelocityY, float laserTimeLeft, TextureRegion region) {
+            if (count == x.length) {
+                int capacity = count * 2;
+                x = Arrays.copyOf(x, capacity);
+                y = Arrays.copyOf(y, capacity);
+                width = Arrays.copyOf(width, capacity);
+                height = Arrays.copyOf(height, capacity);
+                velocityY = Arrays.copyOf(velocityY, capacity);
+                timeLeft = Arrays.copyOf(timeLeft, capacity);
+                regions = Arrays.copyOf(regions, capacity);
+            }
+            x[count] = laserX;
+            y[count] = laserY;
+            width[count] = laserWidth;
+            height[count] = laserHeight;
+            velocityY[count] = laserVelocityY;
+            timeLeft[count] = laserTimeLeft;
+            regions[count] = region;
+            count++;
+        }
+
+        private void update(float deltaTime) {
+            // move, age and drop in one pass. Order does not matter for lasers, so a dropped
+            // laser is replaced by the last one, which has not been moved yet and is done next
+            int i = 0;
+            while (i < count) {
+                float laserTimeLeft = timeLeft[i] - deltaTime;
+                if (laserTimeLeft < 0) {
+                    count--;
+                    x[i] = x[count];
+                    y[i] = y[count];
+                    width[i] = width[count];
+                    height[i] = height[count];
+                    velocityY[i] = velocityY[count];
+                    timeLeft[i] = timeLeft[count];
+                    regions[i] = regions[count];
+                    continue;
+                }
+                y[i] += velocityY[i] * deltaTime;
+                timeLeft[i] = laserTimeLeft;
+                i++;
+            }
+        }
+
+        private void draw(Batch batch, float timeBeforeUpdate) {
+            for (int i = 0; i < count; i++) {
+                if (isRemoved(i)) {
+                    continue;
+                }
+                // half a width left of the bounding box, where lasers have always been drawn
+                batch.draw(regions[i], x[i] - width[i] / 2, y[i] - velocityY[i] * timeBeforeUpdate,
+                        width[i], height[i]);
+            }
+        }
+    }
+}
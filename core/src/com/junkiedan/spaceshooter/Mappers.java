@@ -0,0 +1,20 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+final class Mappers {
+
+    static final ComponentMapper<TransformComponent> transform = ComponentMapper.getFor(TransformComponent.class);
+    static final ComponentMapper<VelocityComponent> velocity = ComponentMapper.getFor(VelocityComponent.class);
+    static final ComponentMapper<BoundsComponent> bounds = ComponentMapper.getFor(BoundsComponent.class);
+    static final ComponentMapper<WeaponComponent> weapon = ComponentMapper.getFor(WeaponComponent.class);
+    static final ComponentMapper<ShieldComponent> shield = ComponentMapper.getFor(ShieldComponent.class);
+    static final ComponentMapper<SpriteComponent> sprite = ComponentMapper.getFor(SpriteComponent.class);
+    static final ComponentMapper<ExplosionComponent> explosion = ComponentMapper.getFor(ExplosionComponent.class);
+    static final ComponentMapper<TrailComponent> trail = ComponentMapper.getFor(TrailComponent.class);
+    static final ComponentMapper<WanderComponent> wander = ComponentMapper.getFor(WanderComponent.class);
+    static final ComponentMapper<PlayerComponent> player = ComponentMapper.getFor(PlayerComponent.class);
+
+    private Mappers() {
+    }
+}
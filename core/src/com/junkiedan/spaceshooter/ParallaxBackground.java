@@ -0,0 +1,36 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+// Vertically scrolling layers drawn straight from the atlas, two screen-sized quads per layer
+// stacked on top of each other. Atlas regions cannot repeat, hence the second quad.
+class ParallaxBackground {
+
+    private final TextureRegion[] layers;
+    private final float[] scrollingSpeeds; // world units per second
+    private final float[] offsets; // world units, always in [0, worldHeight)
+    private final float worldWidth, worldHeight;
+
+    ParallaxBackground(TextureRegion[] layers, float[] scrollingSpeeds, float worldWidth, float worldHeight) {
+        this.layers = layers;
+        this.scrollingSpeeds = scrollingSpeeds;
+        this.offsets = new float[layers.length];
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    public void update(float deltaTime) {
+        for (int layer = 0; layer < offsets.length; layer++) {
+            // wrap around instead of snapping back to 0, so no distance is lost
+            offsets[layer] = (offsets[layer] + deltaTime * scrollingSpeeds[layer]) % worldHeight;
+        }
+    }
+
+    public void draw(Batch batch) {
+        for (int layer = 0; layer < layers.length; layer++) {
+            batch.draw(layers[layer], 0, -offsets[layer], worldWidth, worldHeight);
+            batch.draw(layers[layer], 0, -offsets[layer] + worldHeight, worldWidth, worldHeight);
+        }
+    }
+}
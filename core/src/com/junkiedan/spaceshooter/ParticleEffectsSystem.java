@@ -0,0 +1,42 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Rectangle;
+
+// emits engine trails and advances the particle system
+class ParticleEffectsSystem extends IteratingSystem {
+
+    private final ParticleSystem particleSystem;
+
+    private final float timeBetweenTrailEmissions = 0.03f;
+    private float trailEmissionTimer = 0;
+
+    ParticleEffectsSystem(ParticleSystem particleSystem) {
+        super(Family.all(TrailComponent.class, TransformComponent.class).get());
+        this.particleSystem = particleSystem;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        // engine trails, emitted at a fixed rate regardless of the tick rate
+        trailEmissionTimer += deltaTime;
+        while (trailEmissionTimer > timeBetweenTrailEmissions) {
+            super.update(deltaTime);
+            trailEmissionTimer -= timeBetweenTrailEmissions;
+        }
+
+        particleSystem.update(deltaTime);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Rectangle boundingBox = Mappers.transform.get(entity).boundingBox;
+        TrailComponent trail = Mappers.trail.get(entity);
+        particleSystem.emit(ParticleSystem.ENGINE_TRAIL,
+                boundingBox.x + boundingBox.width * trail.x,
+                boundingBox.y + boundingBox.height * trail.y,
+                1, 0f, trail.directionY, 30f);
+    }
+}
@@ -0,0 +1,141 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+
+import java.util.Random;
+
+class ParticleSystem {
+
+    // particle kinds
+    static final int SPARK = 0;
+    static final int ENGINE_TRAIL = 1;
+    static final int DEBRIS = 2;
+
+    // per kind characteristics, indexed by particle kind
+    private static final float[] LIFE_SPAN = {0.25f, 0.35f, 0.9f}; // seconds
+    private static final float[] SPEED = {30f, 6f, 18f}; // world units per second
+    private static final float[] SIZE = {0.6f, 1.2f, 1.5f}; // world units
+    private static final float[] DRAG = {4f, 1f, 1.5f}; // fraction of velocity lost per second
+    private static final float[] RED = {1f, 1f, 1f};
+    private static final float[] GREEN = {0.9f, 0.6f, 1f};
+    private static final float[] BLUE = {0.5f, 0.2f, 1f};
+
+    // budget: above the soft limit emissions are scaled down, at capacity they are dropped
+    private final int capacity;
+    private final int softLimit;
+
+    // particle storage, alive particles are always packed in [0, count)
+    private int count = 0;
+    private final float[] x, y;
+    private final float[] velocityX, velocityY;
+    private final float[] age, lifeSpan;
+    private final byte[] kind;
+    private final float[] damping = new float[DRAG.length];
+
+    // graphics, one atlas region per particle kind
+    private final TextureRegion[] regions;
+
+    private final Random random;
+
+    ParticleSystem(int capacity, TextureRegion sparkRegion, TextureRegion trailRegion,
+                   TextureRegion debrisRegion, Random random) {
+        this.capacity = capacity;
+        this.softLimit = capacity * 3 / 4;
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.velocityX = new float[capacity];
+        this.velocityY = new float[capacity];
+        this.age = new float[capacity];
+        this.lifeSpan = new float[capacity];
+        this.kind = new byte[capacity];
+        this.regions = new TextureRegion[]{sparkRegion, trailRegion, debrisRegion};
+        this.random = random;
+    }
+
+    // emits up to "requested" particles moving mostly along (directionX, directionY),
+    // returns how many were actually emitted after applying the budget
+    int emit(int particleKind, float xCenter, float yCenter, int requested,
+             float directionX, float directionY, float spreadDegrees) {
+        int emitted = budget(particleKind, requested);
+        float baseAngle = MathUtils.atan2(directionY, directionX);
+        float spread = spreadDegrees * MathUtils.degreesToRadians;
+        for (int i = 0; i < emitted; i++) {
+            float angle = baseAngle + (random.nextFloat() - 0.5f) * spread;
+            float speed = SPEED[particleKind] * (0.5f + random.nextFloat());
+            x[count] = xCenter;
+            y[count] = yCenter;
+            velocityX[count] = MathUtils.cos(angle) * speed;
+            velocityY[count] = MathUtils.sin(angle) * speed;
+            age[count] = 0f;
+            lifeSpan[count] = LIFE_SPAN[particleKind] * (0.75f + random.nextFloat() * 0.5f);
+            kind[count] = (byte) particleKind;
+            count++;
+        }
+        return emitted;
+    }
+
+    private int budget(int particleKind, int requested) {
+        int free = capacity - count;
+        if (count > softLimit) {
+            // engine trails are purely cosmetic, drop them first
+            if (particleKind == ENGINE_TRAIL) {
+                return 0;
+            }
+            // scale the rest down linearly as we approach the capacity
+            requested = requested * free / (capacity - softLimit);
+        }
+        return Math.min(requested, free);
+    }
+
+    public void update(float deltaTime) {
+        // velocity kept after this update, per kind
+        for (int particleKind = 0; particleKind < DRAG.length; particleKind++) {
+            damping[particleKind] = Math.max(0f, 1f - DRAG[particleKind] * deltaTime);
+        }
+
+        // move, age and compact in one pass, keeping the draw order stable
+        int alive = 0;
+        for (int i = 0; i < count; i++) {
+            float particleAge = age[i] + deltaTime;
+            if (particleAge >= lifeSpan[i]) {
+                continue;
+            }
+            float particleDamping = damping[kind[i]];
+            x[alive] = x[i] + velocityX[i] * deltaTime;
+            y[alive] = y[i] + velocityY[i] * deltaTime;
+            velocityX[alive] = velocityX[i] * particleDamping;
+            velocityY[alive] = velocityY[i] * particleDamping;
+            age[alive] = particleAge;
+            lifeSpan[alive] = lifeSpan[i];
+            kind[alive] = kind[i];
+            alive++;
+        }
+        count = alive;
+    }
+
+    // draws the particles where they were the given time before the last update, frames fall in
+    // between two ticks. Going back along the current velocity is close enough, drag only
+    // changes it by a few percent per tick
+    public void draw(Batch batch, float timeBeforeUpdate) {
+        float previousColor = batch.getPackedColor();
+        for (int i = 0; i < count; i++) {
+            int particleKind = kind[i];
+            float remaining = 1f - age[i] / lifeSpan[i];
+            float size = SIZE[particleKind] * (0.5f + remaining * 0.5f);
+            batch.setColor(RED[particleKind], GREEN[particleKind], BLUE[particleKind], remaining);
+            batch.draw(regions[particleKind], x[i] - velocityX[i] * timeBeforeUpdate - size / 2,
+                    y[i] - velocityY[i] * timeBeforeUpdate - size / 2, size, size);
+        }
+        batch.setPackedColor(previousColor);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
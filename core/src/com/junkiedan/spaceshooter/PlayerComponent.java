@@ -0,0 +1,16 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+class PlayerComponent implements Component, Pool.Poolable {
+
+    int lives;
+    int score;
+
+    @Override
+    public void reset() {
+        lives = 0;
+        score = 0;
+    }
+}
@@ -0,0 +1,71 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+class PlayerControlSystem extends IteratingSystem {
+
+    private static final float TOUCH_MOVEMENT_THRESHOLD = 0.5f;
+
+    private final InputState inputState;
+    private final Viewport viewport; // null when there is no screen to touch
+
+    private final Vector2 touchPoint = new Vector2();
+    private final Vector2 playerShipCenter = new Vector2();
+
+    PlayerControlSystem(InputState inputState, Viewport viewport) {
+        super(Family.all(PlayerComponent.class, TransformComponent.class, VelocityComponent.class).get());
+        this.inputState = inputState;
+        this.viewport = viewport;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Rectangle boundingBox = Mappers.transform.get(entity).boundingBox;
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+
+        // keyboard input, the movement system keeps the ship in its bounds
+        float xSpeed = 0, ySpeed = 0;
+        if (inputState.isKeyActive(Input.Keys.RIGHT)) {
+            xSpeed += velocity.movementSpeed;
+        }
+        if (inputState.isKeyActive(Input.Keys.LEFT)) {
+            xSpeed -= velocity.movementSpeed;
+        }
+        if (inputState.isKeyActive(Input.Keys.UP)) {
+            ySpeed += velocity.movementSpeed;
+        }
+        if (inputState.isKeyActive(Input.Keys.DOWN)) {
+            ySpeed -= velocity.movementSpeed;
+        }
+
+        // touch - mouse input
+        if (viewport != null && inputState.isTouchActive()) {
+            // convert the screen position of the touch to world position, reusing the vectors
+            touchPoint.set(inputState.getTouchX(), inputState.getTouchY());
+            viewport.unproject(touchPoint);
+
+            // calculate the x and y differences
+            boundingBox.getCenter(playerShipCenter);
+            float touchDistance = touchPoint.dst(playerShipCenter);
+            if (touchDistance > TOUCH_MOVEMENT_THRESHOLD) {
+                // scale to the maximum speed of the ship
+                xSpeed += (touchPoint.x - playerShipCenter.x) / touchDistance * velocity.movementSpeed;
+                ySpeed += (touchPoint.y - playerShipCenter.y) / touchDistance * velocity.movementSpeed;
+            }
+        }
+
+        velocity.x = xSpeed;
+        velocity.y = ySpeed;
+
+        if (xSpeed != 0 || ySpeed != 0) {
+            inputState.movementApplied(TimeUtils.nanoTime());
+        }
+    }
+}
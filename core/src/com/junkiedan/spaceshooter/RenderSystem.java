@@ -0,0 +1,77 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.SortedIteratingSystem;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Comparator;
+
+// draws every sprite by layer, it is not updated by the engine but once per frame. Frames
+// fall in between simulation ticks, so positions are interpolated between the last two ticks
+class RenderSystem extends SortedIteratingSystem {
+
+    private final Batch batch;
+    private final LaserSystem laserSystem;
+    private final ParticleSystem particleSystem;
+    private boolean lasersAndParticlesDrawn;
+    // how far the frame is from the previous tick towards the last one, in [0, 1)
+    private float alpha = 1f;
+
+    RenderSystem(Batch batch, LaserSystem laserSystem, ParticleSystem particleSystem) {
+        super(Family.all(SpriteComponent.class, TransformComponent.class).get(), new Comparator<Entity>() {
+            @Override
+            public int compare(Entity entity1, Entity entity2) {
+                return Integer.compare(Mappers.sprite.get(entity1).layer, Mappers.sprite.get(entity2).layer);
+            }
+        });
+        this.batch = batch;
+        this.laserSystem = laserSystem;
+        this.particleSystem = particleSystem;
+        setProcessing(false);
+    }
+
+    void render(float alpha) {
+        this.alpha = alpha;
+        update(0);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        lasersAndParticlesDrawn = false;
+        super.update(deltaTime);
+        if (!lasersAndParticlesDrawn) {
+            drawLasersAndParticles();
+        }
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        SpriteComponent sprite = Mappers.sprite.get(entity);
+        if (!lasersAndParticlesDrawn && sprite.layer >= SpriteComponent.LAYER_EXPLOSIONS) {
+            drawLasersAndParticles();
+            lasersAndParticlesDrawn = true;
+        }
+
+        TransformComponent transform = Mappers.transform.get(entity);
+        Rectangle boundingBox = transform.boundingBox;
+        float x = MathUtils.lerp(transform.previousX, boundingBox.x, alpha);
+        float y = MathUtils.lerp(transform.previousY, boundingBox.y, alpha);
+        batch.draw(sprite.textureRegion, x, y, boundingBox.width, boundingBox.height);
+
+        ShieldComponent shield = Mappers.shield.get(entity);
+        if (shield != null && shield.shield > 0) {
+            batch.draw(shield.shieldTextureRegion, x, y + boundingBox.height * shield.yOffset,
+                    boundingBox.width, boundingBox.height);
+        }
+    }
+
+    // lasers and particles are not entities, they go in between the ships and the explosions
+    private void drawLasersAndParticles() {
+        float timeBeforeTick = (1 - alpha) * GameWorld.TICK_DURATION;
+        laserSystem.draw(batch, timeBeforeTick);
+        particleSystem.draw(batch, timeBeforeTick);
+    }
+}
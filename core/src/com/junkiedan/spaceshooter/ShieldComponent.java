@@ -0,0 +1,21 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
+
+class ShieldComponent implements Component, Pool.Poolable {
+
+    int shield;
+
+    // graphics, drawn over the ship while the shield is up
+    TextureRegion shieldTextureRegion;
+    float yOffset; // fraction of the ship's height
+
+    @Override
+    public void reset() {
+        shield = 0;
+        shieldTextureRegion = null;
+        yOffset = 0;
+    }
+}
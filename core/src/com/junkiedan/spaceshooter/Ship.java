@@ -1,77 +0,0 @@
-package com.junkiedan.spaceshooter;
-
-import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Rectangle;
-
-abstract class Ship {
-    // ship characteristics
-    float movementSpeed; // world units per second
-    int shield;
-
-    // position & dimension information
-    Rectangle boundingBox;
-
-    // graphics information
-    TextureRegion shipTextureRegion, shieldTextureRegion, laserTextureRegion;
-
-    // laser information
-    float laserWidth, laserHeight;
-    float laserMovementSpeed;
-    float timeBetweenShots;
-    float timeSinceLastShot = 0f;
-
-    public Ship(float movementSpeed, int shield,
-                float width, float height,
-                float xCenter, float yCenter,
-                float laserWidth, float laserHeight,
-                float laserMovementSpeed, float timeBetweenShots,
-                TextureRegion shipTextureRegion, TextureRegion shieldTextureRegion,
-                TextureRegion laserTextureRegion) {
-        this.movementSpeed = movementSpeed;
-        this.shield = shield;
-        this.boundingBox = new Rectangle(xCenter - width / 2, yCenter - height / 2, width, height);
-        this.laserWidth = laserWidth;
-        this.laserHeight = laserHeight;
-        this.laserMovementSpeed = laserMovementSpeed;
-        this.timeBetweenShots = timeBetweenShots;
-        this.shipTextureRegion = shipTextureRegion;
-        this.shieldTextureRegion = shieldTextureRegion;
-        this.laserTextureRegion = laserTextureRegion;
-    }
-
-    public void update(float deltaTime) {
-        timeSinceLastShot += deltaTime;
-    }
-
-    public boolean canFireLaser() {
-        return timeSinceLastShot - timeBetweenShots >= 0f;
-    }
-
-    public abstract Laser[] fireLasers();
-
-    public boolean intersects(Rectangle otherRectangle) {
-        return boundingBox.overlaps(otherRectangle);
-    }
-
-    public boolean hitAndCheckDestroyed(Laser laser) {
-        if (shield > 0) {
-            shield--;
-            return false;
-        }
-        return true;
-    }
-
-    public void translate(float xChange, float yChange) {
-        boundingBox.setPosition(boundingBox.x + xChange, boundingBox.y + yChange);
-    }
-
-    public void draw (Batch batch) {
-        batch.draw(shipTextureRegion, boundingBox.x, boundingBox.y, boundingBox.width, boundingBox.height);
-        if (shield > 0) {
-            batch.draw(shieldTextureRegion, boundingBox.x, boundingBox.y, boundingBox.width, boundingBox.height);
-        }
-    }
-
-
-}
@@ -0,0 +1,140 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+// fires the ships' weapons, moves the ships, keeps those with bounds in their part of the screen
+// and turns the wandering ones, all in one pass. A ship's components never change once it is in
+// the engine, so they are looked up when it is added rather than every tick
+class ShipSystem extends EntitySystem implements EntityListener {
+
+    private static final Family FAMILY = Family.all(TransformComponent.class, VelocityComponent.class).get();
+
+    private final LaserSystem laserSystem;
+
+    // one entry per ship, weapon, bounds and wander may be null. Unordered like the engine's own
+    // family arrays, so a removal moves the last ship into the gap and the ships are processed,
+    // and draw random numbers, in the same order as an iterating system would
+    private final Array<Entity> ships = new Array<>(false, 16);
+    private final Array<TransformComponent> transforms = new Array<>(false, 16);
+    private final Array<VelocityComponent> velocities = new Array<>(false, 16);
+    private final Array<WeaponComponent> weapons = new Array<>(false, 16);
+    private final Array<BoundsComponent> bounds = new Array<>(false, 16);
+    private final Array<WanderComponent> wanders = new Array<>(false, 16);
+
+    ShipSystem(LaserSystem laserSystem) {
+        this.laserSystem = laserSystem;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        ImmutableArray<Entity> entities = engine.getEntitiesFor(FAMILY);
+        for (int i = 0; i < entities.size(); i++) {
+            entityAdded(entities.get(i));
+        }
+        engine.addEntityListener(FAMILY, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        ships.clear();
+        transforms.clear();
+        velocities.clear();
+        weapons.clear();
+        bounds.clear();
+        wanders.clear();
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        ships.add(entity);
+        transforms.add(Mappers.transform.get(entity));
+        velocities.add(Mappers.velocity.get(entity));
+        weapons.add(Mappers.weapon.get(entity));
+        bounds.add(Mappers.bounds.get(entity));
+        wanders.add(Mappers.wander.get(entity));
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        int index = ships.indexOf(entity, true);
+        ships.removeIndex(index);
+        transforms.removeIndex(index);
+        velocities.removeIndex(index);
+        weapons.removeIndex(index);
+        bounds.removeIndex(index);
+        wanders.removeIndex(index);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        for (int i = 0; i < ships.size; i++) {
+            TransformComponent transform = transforms.get(i);
+            Rectangle boundingBox = transform.boundingBox;
+            VelocityComponent velocity = velocities.get(i);
+
+            // ships fire from where they were at the start of the tick
+            WeaponComponent weapon = weapons.get(i);
+            if (weapon != null) {
+                fire(ships.get(i), weapon, boundingBox, deltaTime);
+            }
+
+            transform.savePosition();
+            boundingBox.x += velocity.x * deltaTime;
+            boundingBox.y += velocity.y * deltaTime;
+
+            // do not move out of bounds
+            BoundsComponent shipBounds = bounds.get(i);
+            if (shipBounds != null) {
+                boundingBox.setPosition(
+                        MathUtils.clamp(boundingBox.x, shipBounds.minX, shipBounds.maxX - boundingBox.width),
+                        MathUtils.clamp(boundingBox.y, shipBounds.minY, shipBounds.maxY - boundingBox.height));
+            }
+
+            // enemies turn after they moved, as they always did
+            WanderComponent wander = wanders.get(i);
+            if (wander != null) {
+                wander(wander, velocity, deltaTime);
+            }
+        }
+    }
+
+    private void fire(Entity entity, WeaponComponent weapon, Rectangle boundingBox, float deltaTime) {
+        weapon.timeSinceLastShot += deltaTime;
+        if (weapon.timeSinceLastShot - weapon.timeBetweenShots < 0f) {
+            return;
+        }
+
+        float yBottom = boundingBox.y + boundingBox.height * weapon.muzzleY;
+        if (!weapon.firesUp) {
+            yBottom -= weapon.laserHeight;
+        }
+        boolean firedByPlayer = Mappers.player.has(entity);
+        laserSystem.fire(boundingBox.x + boundingBox.width * weapon.leftMuzzleX, yBottom,
+                weapon, firedByPlayer);
+        laserSystem.fire(boundingBox.x + boundingBox.width * weapon.rightMuzzleX, yBottom,
+                weapon, firedByPlayer);
+
+        weapon.timeSinceLastShot = 0;
+    }
+
+    private void wander(WanderComponent wander, VelocityComponent velocity, float deltaTime) {
+        // check if it is the appropriate time to change direction
+        wander.timeSinceLastDirectionChange += deltaTime;
+        if (wander.timeSinceLastDirectionChange > wander.directionChangeFrequency) {
+            // change direction
+            double bearing = SpaceShooterGame.random.nextDouble() * 6.283185; // 0 to 2 * PI
+            velocity.x = (float) Math.sin(bearing) * velocity.movementSpeed;
+            velocity.y = (float) Math.cos(bearing) * velocity.movementSpeed;
+            wander.timeSinceLastDirectionChange -= wander.directionChangeFrequency;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.junkiedan.spaceshooter;
 
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.ScreenUtils;
@@ -14,9 +15,15 @@ public class SpaceShooterGame extends Game {
 
 	public static Random random = new Random();
 
+	// 65536 records of 32 bytes, a 2 MB ring file per session
+	private static final int TELEMETRY_CAPACITY = 1 << 16;
+	private static final int TELEMETRY_SESSIONS_KEPT = 16;
+
 	@Override
 	public void create() {
-		gameScreen = new GameScreen();
+		TelemetryLog telemetryLog = TelemetryLog.openSession(Gdx.files.local("telemetry").file(),
+				TELEMETRY_CAPACITY, TELEMETRY_SESSIONS_KEPT);
+		gameScreen = new GameScreen(telemetryLog);
 		setScreen(gameScreen);
 	}
 
@@ -0,0 +1,22 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
+
+class SpriteComponent implements Component, Pool.Poolable {
+
+    // draw order, lower layers are drawn first
+    static final int LAYER_ENEMY_SHIPS = 0;
+    static final int LAYER_PLAYER_SHIP = 1;
+    static final int LAYER_EXPLOSIONS = 2; // lasers and particles are drawn right below this layer
+
+    TextureRegion textureRegion;
+    int layer;
+
+    @Override
+    public void reset() {
+        textureRegion = null;
+        layer = 0;
+    }
+}
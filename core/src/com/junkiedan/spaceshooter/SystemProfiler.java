@@ -0,0 +1,102 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.Locale;
+
+// Runs the engine one system at a time so each system's time, including the entity
+// operations it leaves pending, can be measured on its own. That costs an engine update per
+// system and a lot of timer calls, so it is off unless enabled and then a tick is a plain update.
+class SystemProfiler {
+
+    private final Engine engine;
+    private final Array<EntitySystem> systems = new Array<>();
+    private boolean enabled = false;
+    private long[] totalNanos = new long[0];
+    private long[] maxNanos = new long[0];
+    private int samples = 0;
+
+    SystemProfiler(Engine engine) {
+        this.engine = engine;
+    }
+
+    // systems are updated in the order they are added
+    void addSystem(EntitySystem system) {
+        system.priority = systems.size;
+        system.setProcessing(!enabled);
+        systems.add(system);
+        engine.addSystem(system);
+        totalNanos = new long[systems.size];
+        maxNanos = new long[systems.size];
+        samples = 0;
+    }
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        // when profiling, only the system being measured is processing
+        for (int i = 0; i < systems.size; i++) {
+            systems.get(i).setProcessing(!enabled);
+        }
+        reset();
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void update(float deltaTime) {
+        if (!enabled) {
+            engine.update(deltaTime);
+            return;
+        }
+
+        for (int i = 0; i < systems.size; i++) {
+            EntitySystem system = systems.get(i);
+            system.setProcessing(true);
+            long startTime = TimeUtils.nanoTime();
+            engine.update(deltaTime);
+            long elapsedTime = TimeUtils.nanoTime() - startTime;
+            system.setProcessing(false);
+
+            totalNanos[i] += elapsedTime;
+            maxNanos[i] = Math.max(maxNanos[i], elapsedTime);
+        }
+        samples++;
+    }
+
+    int getSystemCount() {
+        return systems.size;
+    }
+
+    String getSystemName(int index) {
+        return systems.get(index).getClass().getSimpleName();
+    }
+
+    float getAverageMillis(int index) {
+        return samples == 0 ? 0 : totalNanos[index] / (float) samples / 1e6f;
+    }
+
+    float getMaxMillis(int index) {
+        return maxNanos[index] / 1e6f;
+    }
+
+    String report() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < systems.size; i++) {
+            builder.append(String.format(Locale.US, "%-22s avg %7.4f ms  max %7.4f ms%n",
+                    getSystemName(i), getAverageMillis(i), getMaxMillis(i)));
+        }
+        return builder.toString();
+    }
+
+    void reset() {
+        for (int i = 0; i < systems.size; i++) {
+            totalNanos[i] = 0;
+            maxNanos[i] = 0;
+        }
+        samples = 0;
+    }
+}
@@ -0,0 +1,180 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+
+class TelemetryLog {
+
+    // file layout, shared with the offline reader
+    static final int MAGIC = 0x53535431; // "SST1"
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 32;
+
+    // header fields (byte offsets)
+    static final int HEADER_MAGIC = 0;
+    static final int HEADER_VERSION = 4;
+    static final int HEADER_RECORD_SIZE = 8;
+    static final int HEADER_CAPACITY = 12;
+    static final int HEADER_SESSION_START = 16; // epoch millis
+    static final int HEADER_WRITE_COUNT = 24; // records written in total, the ring head is count % capacity
+
+    // record fields (byte offsets)
+    static final int RECORD_TIME = 0; // nanos since the session start
+    static final int RECORD_TYPE = 8;
+    static final int RECORD_VALUE = 12; // int payload (score delta, lives left, ...)
+    static final int RECORD_AMOUNT = 16; // float payload (frame time in seconds, ...)
+    static final int RECORD_X = 20;
+    static final int RECORD_Y = 24;
+    static final int RECORD_SEQUENCE = 28; // write index + 1 (low 32 bits), 0 while the record is being written
+
+    // record types
+    static final int SPAWN = 1;
+    static final int KILL = 2;
+    static final int DAMAGE_TAKEN = 3;
+    static final int SCORE_DELTA = 4;
+    static final int LIFE_LOST = 5;
+    static final int FRAME_TIME = 6;
+
+    // one file per session, named by its start time
+    static final String SESSION_FILE_PREFIX = "session-";
+    static final String SESSION_FILE_SUFFIX = ".bin";
+
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final long sessionStartNanos;
+    private long writeCount = 0;
+
+    private TelemetryLog(MappedByteBuffer buffer, int capacity) {
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.sessionStartNanos = TimeUtils.nanoTime();
+    }
+
+    // opens a new session file in the directory, so the logs of earlier (possibly crashed)
+    // sessions are left for the reader. Only the most recent sessions are kept
+    static TelemetryLog openSession(File directory, int capacity, int sessionsKept) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Gdx.app.error("Telemetry", "could not create " + directory + ", telemetry disabled");
+            return disabled();
+        }
+
+        File[] sessionFiles = listSessionFiles(directory);
+        for (int i = 0; i < sessionFiles.length - (sessionsKept - 1); i++) {
+            if (!sessionFiles[i].delete()) {
+                Gdx.app.error("Telemetry", "could not delete old session " + sessionFiles[i]);
+            }
+        }
+
+        return open(new File(directory, SESSION_FILE_PREFIX + TimeUtils.millis() + SESSION_FILE_SUFFIX), capacity);
+    }
+
+    // session files in the directory, oldest first
+    static File[] listSessionFiles(File directory) {
+        File[] files = directory.listFiles(new FileFilter() {
+            @Override
+            public boolean accept(File file) {
+                return sessionStart(file) >= 0;
+            }
+        });
+        if (files == null) {
+            return new File[0];
+        }
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File a, File b) {
+                return Long.compare(sessionStart(a), sessionStart(b));
+            }
+        });
+        return files;
+    }
+
+    // session start in epoch millis from the file name, -1 if it is not a session file
+    private static long sessionStart(File file) {
+        String name = file.getName();
+        if (!file.isFile() || !name.startsWith(SESSION_FILE_PREFIX) || !name.endsWith(SESSION_FILE_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(SESSION_FILE_PREFIX.length(), name.length() - SESSION_FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // opens a new session in the file, replacing any previous log in it. Never throws: when the
+    // file cannot be mapped a disabled log is returned and the game runs without telemetry
+    static TelemetryLog open(File file, int capacity) {
+        try {
+            RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+            try {
+                long size = HEADER_SIZE + (long) capacity * RECORD_SIZE;
+                randomAccessFile.setLength(size);
+                // the mapping stays valid after the channel is closed
+                MappedByteBuffer buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(HEADER_MAGIC, MAGIC);
+                buffer.putInt(HEADER_VERSION, VERSION);
+                buffer.putInt(HEADER_RECORD_SIZE, RECORD_SIZE);
+                buffer.putInt(HEADER_CAPACITY, capacity);
+                buffer.putLong(HEADER_SESSION_START, TimeUtils.millis());
+                buffer.putLong(HEADER_WRITE_COUNT, 0);
+                return new TelemetryLog(buffer, capacity);
+            } finally {
+                randomAccessFile.close();
+            }
+        } catch (IOException e) {
+            Gdx.app.error("Telemetry", "could not open " + file + ", telemetry disabled", e);
+            return disabled();
+        }
+    }
+
+    static TelemetryLog disabled() {
+        return new TelemetryLog(null, 0);
+    }
+
+    public boolean isEnabled() {
+        return buffer != null;
+    }
+
+    public void log(int type, int value, float amount, float x, float y) {
+        if (buffer == null) {
+            return;
+        }
+        int offset = HEADER_SIZE + (int) (writeCount % capacity) * RECORD_SIZE;
+        // once the ring has wrapped the slot still holds an old record that the reader trusts,
+        // mark it as in progress first so a crash mid-write cannot leave a torn record behind
+        buffer.putInt(offset + RECORD_SEQUENCE, 0);
+        buffer.putLong(offset + RECORD_TIME, TimeUtils.nanoTime() - sessionStartNanos);
+        buffer.putInt(offset + RECORD_TYPE, type);
+        buffer.putInt(offset + RECORD_VALUE, value);
+        buffer.putFloat(offset + RECORD_AMOUNT, amount);
+        buffer.putFloat(offset + RECORD_X, x);
+        buffer.putFloat(offset + RECORD_Y, y);
+        buffer.putInt(offset + RECORD_SEQUENCE, (int) (writeCount + 1));
+        // the count is only advanced once the record is complete
+        writeCount++;
+        buffer.putLong(HEADER_WRITE_COUNT, writeCount);
+    }
+
+    public void log(int type, int value) {
+        log(type, value, 0f, 0f, 0f);
+    }
+
+    // the pages are written back by the OS on its own, this only forces it (e.g. on pause)
+    public void flush() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+// engine trail, emitted from a point given as fractions of the bounding box
+class TrailComponent implements Component, Pool.Poolable {
+
+    float x, y;
+    float directionY;
+
+    @Override
+    public void reset() {
+        x = y = 0;
+        directionY = 0;
+    }
+}
@@ -0,0 +1,26 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
+
+class TransformComponent implements Component, Pool.Poolable {
+
+    // position & dimension information
+    final Rectangle boundingBox = new Rectangle();
+
+    // position at the end of the previous tick, frames are drawn in between the two
+    float previousX, previousY;
+
+    // to call whenever the entity is placed rather than moved, so it is not drawn sliding there
+    void savePosition() {
+        previousX = boundingBox.x;
+        previousY = boundingBox.y;
+    }
+
+    @Override
+    public void reset() {
+        boundingBox.set(0, 0, 0, 0);
+        previousX = previousY = 0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+class VelocityComponent implements Component, Pool.Poolable {
+
+    float x, y; // world units per second
+    float movementSpeed; // world units per second, along each axis for steered entities
+
+    @Override
+    public void reset() {
+        x = y = 0;
+        movementSpeed = 0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+class WanderComponent implements Component, Pool.Poolable {
+
+    float timeSinceLastDirectionChange;
+    float directionChangeFrequency;
+
+    @Override
+    public void reset() {
+        timeSinceLastDirectionChange = 0;
+        directionChangeFrequency = 0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
+
+class WeaponComponent implements Component, Pool.Poolable {
+
+    // laser information
+    float laserWidth, laserHeight;
+    float laserMovementSpeed;
+    float timeBetweenShots;
+    float timeSinceLastShot;
+    TextureRegion laserTextureRegion;
+
+    // two lasers per shot, positions as fractions of the ship's bounding box
+    float leftMuzzleX, rightMuzzleX, muzzleY;
+    boolean firesUp;
+
+    @Override
+    public void reset() {
+        laserWidth = laserHeight = 0;
+        laserMovementSpeed = 0;
+        timeBetweenShots = 0;
+        timeSinceLastShot = 0;
+        laserTextureRegion = null;
+        leftMuzzleX = rightMuzzleX = muzzleY = 0;
+        firesUp = false;
+    }
+}
@@ -0,0 +1,98 @@
+package com.junkiedan.spaceshooter;
+
+import java.util.Locale;
+
+// Compares the Ashley engine against the old LinkedList loop, without rendering, and fails
+// when the Ashley loop is the slower one at any spawn rate. Both start from the same seed and
+// spawn rate, but they are not the same world tick for tick: lasers expire by lifetime instead
+// of position and random numbers are drawn in a different order, so the entity counts drift
+// apart. The timed runs are not profiled, a separate profiled run gives the per system breakdown.
+// usage: EcsBenchmark [ticks] [seconds between enemy spawns...]
+public class EcsBenchmark {
+
+    private static final float TICK_DURATION = GameWorld.TICK_DURATION;
+    private static final long SEED = 42;
+    // the best of several rounds is reported, a single run is easily disturbed by GC or the OS
+    private static final int ROUNDS = 5;
+    // the Ashley loop has more, smaller methods and takes longer to be fully compiled, so both
+    // loops are warmed up for a while rather than for a few runs, short runs would measure the JIT
+    private static final float WARM_UP_SECONDS = 3;
+
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 36000;
+        float[] spawnIntervals = {1f, 0.25f, 0.05f};
+        if (args.length > 1) {
+            spawnIntervals = new float[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                spawnIntervals[i - 1] = Float.parseFloat(args[i]);
+            }
+        }
+
+        boolean ashleySlower = false;
+        for (float spawnInterval : spawnIntervals) {
+            // the first passes warm up the JIT, the following ones are measured
+            float legacyWarmUpMillis = 0, ecsWarmUpMillis = 0;
+            while (legacyWarmUpMillis < WARM_UP_SECONDS * 1000 || ecsWarmUpMillis < WARM_UP_SECONDS * 1000) {
+                legacyWarmUpMillis += run(createLegacyLoop(spawnInterval), ticks);
+                ecsWarmUpMillis += run(createWorld(spawnInterval), ticks);
+            }
+            LegacyLoop loop = null;
+            GameWorld world = null;
+            float legacyMillis = Float.MAX_VALUE, ecsMillis = Float.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                loop = createLegacyLoop(spawnInterval);
+                legacyMillis = Math.min(legacyMillis, run(loop, ticks));
+                world = createWorld(spawnInterval);
+                ecsMillis = Math.min(ecsMillis, run(world, ticks));
+            }
+
+            System.out.printf(Locale.US, "%d ticks, enemy every %.2f s:%n", ticks, spawnInterval);
+            System.out.printf(Locale.US, "  legacy loop  %8.1f ms  %10.0f ticks/s  (%d entities at the end)%n",
+                    legacyMillis, ticks / legacyMillis * 1000, loop.getEntityCount());
+            System.out.printf(Locale.US, "  ashley       %8.1f ms  %10.0f ticks/s  (%d entities at the end)%n",
+                    ecsMillis, ticks / ecsMillis * 1000, world.getEntityCount());
+            if (ecsMillis > legacyMillis) {
+                System.out.printf(Locale.US, "  the Ashley loop is %.0f%% slower%n", (ecsMillis / legacyMillis - 1) * 100);
+                ashleySlower = true;
+            }
+
+            GameWorld profiledWorld = createWorld(spawnInterval);
+            profiledWorld.systemProfiler.setEnabled(true);
+            float profiledMillis = run(profiledWorld, ticks);
+            System.out.printf(Locale.US, "  ashley, profiled per system  %8.1f ms%n", profiledMillis);
+            System.out.print(profiledWorld.systemProfiler.report());
+        }
+
+        if (ashleySlower) {
+            System.exit(1);
+        }
+    }
+
+    private static LegacyLoop createLegacyLoop(float spawnInterval) {
+        SpaceShooterGame.random.setSeed(SEED);
+        return new LegacyLoop(spawnInterval);
+    }
+
+    private static float run(LegacyLoop loop, int ticks) {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            loop.tick(TICK_DURATION);
+        }
+        return (System.nanoTime() - startTime) / 1e6f;
+    }
+
+    private static GameWorld createWorld(float spawnInterval) {
+        SpaceShooterGame.random.setSeed(SEED);
+        GameWorld world = new GameWorld(new GameAssets(), null, TelemetryLog.disabled());
+        world.engine.getSystem(EnemySpawnSystem.class).timeBetweenEnemySpawns = spawnInterval;
+        return world;
+    }
+
+    private static float run(GameWorld world, int ticks) {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            world.tick(TICK_DURATION);
+        }
+        return (System.nanoTime() - startTime) / 1e6f;
+    }
+}
@@ -0,0 +1,163 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.Locale;
+
+// Plays a seeded game with the autopilot as fast as possible, without a window or a GPU,
+// and reports throughput and difficulty numbers for regression tracking. The same seed is
+// also played by a ship that never moves: the run fails if the bot does not survive at least
+// as long, as its numbers would then measure the bot rather than the game. The bot's input
+// is recorded and replayed into a third world, which must end up identical.
+// usage: HeadlessPlaytest [minutes of game time] [seed]
+public class HeadlessPlaytest {
+
+    private static final float TICK_DURATION = GameWorld.TICK_DURATION;
+
+    public static void main(String[] args) {
+        float minutes = args.length > 0 ? Float.parseFloat(args[0]) : 10f;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        int ticks = Math.round(minutes * 60 / TICK_DURATION);
+
+        InputRecording recording = new InputRecording();
+        Run bot = play(seed, ticks, true, recording, null);
+        Run idle = play(seed, ticks, false, null, null);
+        Run replay = play(seed, ticks, false, null, recording);
+
+        boolean deterministic = recording.isReplayFinished() && bot.sameEndState(replay);
+        boolean outlivesIdleShip = bot.survivalTicks >= idle.survivalTicks;
+
+        System.out.printf(Locale.US, "seed %d, %.1f minutes of game time, %d ticks%n", seed, minutes, ticks);
+        System.out.printf(Locale.US, "  simulated        %10.0f ticks/s (%.2f s wall time)%n",
+                bot.getTicksPerSecond(), bot.elapsedNanos / 1e9f);
+        System.out.printf(Locale.US, "                         bot       idle ship%n");
+        System.out.printf(Locale.US, "  survival time    %8.1f s  %8.1f s%n",
+                bot.getSurvivalSeconds(), idle.getSurvivalSeconds());
+        System.out.printf(Locale.US, "  lives lost       %10d  %10d%n", bot.livesLost, idle.livesLost);
+        System.out.printf(Locale.US, "  kills per spawn  %10.2f  %10.2f  (%d / %d spawns)%n",
+                bot.getKillsPerSpawn(), idle.getKillsPerSpawn(), bot.kills, bot.spawns);
+        System.out.printf(Locale.US, "  time to kill     %8.2f s  %8.2f s%n",
+                bot.getAverageTimeToKill(), idle.getAverageTimeToKill());
+        System.out.printf(Locale.US, "  peak entities    %10d  %10d%n", bot.peakEntities, idle.peakEntities);
+        System.out.printf(Locale.US, "  peak particles   %10d  %10d%n", bot.peakParticles, idle.peakParticles);
+        System.out.printf(Locale.US, "  replay           %10s (%d recorded events)%n",
+                deterministic ? "identical" : "DIVERGED", recording.getEventCount());
+        if (!outlivesIdleShip) {
+            System.out.println("  the bot died sooner than a ship that never moves");
+        }
+
+        // one line for scripts to pick up
+        System.out.printf(Locale.US,
+                "PLAYTEST seed=%d ticks=%d ticksPerSecond=%.0f survivalSeconds=%.1f idleSurvivalSeconds=%.1f livesLost=%d killsPerSpawn=%.3f timeToKill=%.2f peakEntities=%d peakParticles=%d%n",
+                seed, ticks, bot.getTicksPerSecond(), bot.getSurvivalSeconds(), idle.getSurvivalSeconds(),
+                bot.livesLost, bot.getKillsPerSpawn(), bot.getAverageTimeToKill(), bot.peakEntities, bot.peakParticles);
+
+        if (!deterministic || !outlivesIdleShip) {
+            System.exit(1);
+        }
+    }
+
+    // plays a fresh world with the given seed, driven by the bot (recording its input), by a
+    // replay, or by nobody at all
+    private static Run play(long seed, int ticks, boolean autopilot, InputRecording recording, InputRecording replay) {
+        SpaceShooterGame.random.setSeed(seed);
+        final GameWorld world = new GameWorld(new GameAssets(), null, TelemetryLog.disabled());
+        final Run run = new Run(world, ticks);
+        PlaytestBot bot = autopilot ? new PlaytestBot(world) : null;
+        if (recording != null) {
+            world.recordInput(recording);
+        }
+        if (replay != null) {
+            world.replayInput(replay);
+        }
+
+        // enemy ships only leave the world when they are destroyed
+        world.engine.addEntityListener(Family.all(EnemyComponent.class).get(), new EntityListener() {
+            private final ObjectIntMap<Entity> spawnTicks = new ObjectIntMap<>();
+
+            @Override
+            public void entityAdded(Entity entity) {
+                spawnTicks.put(entity, world.inputState.getTick());
+                run.spawns++;
+            }
+
+            @Override
+            public void entityRemoved(Entity entity) {
+                run.killTicks += world.inputState.getTick() - spawnTicks.remove(entity, 0);
+                run.kills++;
+            }
+        });
+
+        PlayerComponent player = world.getPlayer();
+        int lives = player.lives;
+        long startTime = System.nanoTime();
+        for (int tick = 0; tick < ticks; tick++) {
+            if (bot != null) {
+                bot.act();
+            }
+            world.tick(TICK_DURATION);
+
+            if (player.lives < lives) {
+                run.livesLost += lives - player.lives;
+                lives = player.lives;
+            }
+            // there is no game over yet, keep playing but remember when the last life was lost
+            if (run.survivalTicks == ticks && player.lives <= 0) {
+                run.survivalTicks = tick + 1;
+            }
+            run.peakEntities = Math.max(run.peakEntities, world.getEntityCount());
+            run.peakParticles = Math.max(run.peakParticles, world.particleSystem.getCount());
+        }
+        run.elapsedNanos = System.nanoTime() - startTime;
+        return run;
+    }
+
+    private static class Run {
+        final GameWorld world;
+        final int ticks;
+        long elapsedNanos;
+        int survivalTicks; // all of them unless the last life was lost
+        int livesLost = 0;
+        int spawns = 0, kills = 0;
+        long killTicks = 0; // ticks from spawn to destruction, summed over the kills
+        int peakEntities = 0, peakParticles = 0;
+
+        Run(GameWorld world, int ticks) {
+            this.world = world;
+            this.ticks = ticks;
+            this.survivalTicks = ticks;
+        }
+
+        float getTicksPerSecond() {
+            return ticks / (elapsedNanos / 1e9f);
+        }
+
+        float getSurvivalSeconds() {
+            return survivalTicks * TICK_DURATION;
+        }
+
+        float getKillsPerSpawn() {
+            return spawns == 0 ? 0 : kills / (float) spawns;
+        }
+
+        float getAverageTimeToKill() {
+            return kills == 0 ? 0 : killTicks * TICK_DURATION / kills;
+        }
+
+        boolean sameEndState(Run other) {
+            Rectangle ship = Mappers.transform.get(world.getPlayerShip()).boundingBox;
+            Rectangle otherShip = Mappers.transform.get(other.world.getPlayerShip()).boundingBox;
+            return world.getPlayer().score == other.world.getPlayer().score
+                    && world.getPlayer().lives == other.world.getPlayer().lives
+                    && world.getPlayerShield() == other.world.getPlayerShield()
+                    && world.getEntityCount() == other.world.getEntityCount()
+                    && world.particleSystem.getCount() == other.world.particleSystem.getCount()
+                    && kills == other.kills
+                    && ship.x == otherShip.x && ship.y == otherShip.y;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.ListIterator;
+
+// The pre-ECS update loop (Ship/Laser/Explosion objects in LinkedLists), kept only as a
+// benchmark baseline. Drawing is left out, everything else follows the old GameScreen.tick,
+// input included: the queue is drained and the keys are checked even though nobody presses
+// them, as the world does. There is no touch input, headless worlds have no viewport.
+class LegacyLoop {
+
+    private static final int WORLD_WIDTH = GameWorld.WORLD_WIDTH;
+    private static final int WORLD_HEIGHT = GameWorld.WORLD_HEIGHT;
+
+    private final float timeBetweenEnemySpawns;
+    private float enemySpawnTimer = 0;
+    private float timeBetweenTrailEmissions = 0.03f;
+    private float trailEmissionTimer = 0;
+
+    private final Ship playerShip;
+    private final LinkedList<Ship> enemyShipList = new LinkedList<>();
+    private final LinkedList<Laser> playerLaserList = new LinkedList<>();
+    private final LinkedList<Laser> enemyLaserList = new LinkedList<>();
+    private final LinkedList<Explosion> explosionList = new LinkedList<>();
+    private final ParticleSystem particleSystem;
+
+    private final InputEventQueue inputEventQueue = new InputEventQueue(256);
+    private final InputState inputState = new InputState();
+
+    int score = 0;
+
+    LegacyLoop(float timeBetweenEnemySpawns) {
+        this.timeBetweenEnemySpawns = timeBetweenEnemySpawns;
+        playerShip = new Ship(60, 3, 10, 10, WORLD_WIDTH / 2f, WORLD_HEIGHT / 4f,
+                0.4f, 4, 70, 0.3f, true);
+        playerShip.lives = 3;
+        particleSystem = new ParticleSystem(1024, null, null, null, SpaceShooterGame.random);
+    }
+
+    void tick(float delta) {
+        // detect input
+        inputEventQueue.drain(inputState);
+        detectInput(delta);
+        inputState.endTick();
+
+        playerShip.update(delta);
+
+        // spawn enemy ships
+        enemySpawnTimer += delta;
+        if (enemySpawnTimer > timeBetweenEnemySpawns) {
+            enemyShipList.add(new Ship(20, 1, 10, 10,
+                    SpaceShooterGame.random.nextFloat() * (WORLD_WIDTH - 10) + 5,
+                    WORLD_HEIGHT - 5,
+                    0.3f, 5, 50, 0.8f, false));
+            enemySpawnTimer -= timeBetweenEnemySpawns;
+        }
+
+        for (Ship enemyShip : enemyShipList) {
+            moveEnemy(enemyShip, delta);
+            enemyShip.update(delta);
+        }
+
+        updateLasers(delta);
+        detectCollision();
+        updateParticles(delta);
+
+        ListIterator<Explosion> explosionListIterator = explosionList.listIterator();
+        while (explosionListIterator.hasNext()) {
+            Explosion explosion = explosionListIterator.next();
+            explosion.explosionTimer += delta;
+            if (explosion.explosionTimer > explosion.totalAnimationTime) {
+                explosionListIterator.remove();
+            }
+        }
+    }
+
+    int getEntityCount() {
+        return 1 + enemyShipList.size() + playerLaserList.size() + enemyLaserList.size() + explosionList.size();
+    }
+
+    private void updateLasers(float delta) {
+        if (playerShip.canFireLaser()) {
+            playerLaserList.addAll(Arrays.asList(playerShip.fireLasers()));
+        }
+        for (Ship enemyShip : enemyShipList) {
+            if (enemyShip.canFireLaser()) {
+                enemyLaserList.addAll(Arrays.asList(enemyShip.fireLasers()));
+            }
+        }
+
+        ListIterator<Laser> iterator = playerLaserList.listIterator();
+        while (iterator.hasNext()) {
+            Laser laser = iterator.next();
+            laser.boundingBox.y += laser.movementSpeed * delta;
+            if (laser.boundingBox.y > WORLD_HEIGHT) {
+                iterator.remove();
+            }
+        }
+
+        iterator = enemyLaserList.listIterator();
+        while (iterator.hasNext()) {
+            Laser laser = iterator.next();
+            laser.boundingBox.y -= laser.movementSpeed * delta;
+            if (laser.boundingBox.y + laser.boundingBox.height < 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void detectCollision() {
+        ListIterator<Laser> iterator = playerLaserList.listIterator();
+        while (iterator.hasNext()) {
+            Laser laser = iterator.next();
+            ListIterator<Ship> enemyShipListIterator = enemyShipList.listIterator();
+            while (enemyShipListIterator.hasNext()) {
+                Ship enemyShip = enemyShipListIterator.next();
+                if (enemyShip.boundingBox.overlaps(laser.boundingBox)) {
+                    if (enemyShip.hitAndCheckDestroyed()) {
+                        enemyShipListIterator.remove();
+                        explosionList.add(new Explosion(new Rectangle(enemyShip.boundingBox), 0.7f));
+                        emitDebris(enemyShip);
+                        score += 100;
+                    }
+                    else {
+                        particleSystem.emit(ParticleSystem.SPARK,
+                                laser.boundingBox.x, laser.boundingBox.y + laser.boundingBox.height,
+                                8, 0f, -1f, 120f);
+                    }
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+
+        iterator = enemyLaserList.listIterator();
+        while (iterator.hasNext()) {
+            Laser laser = iterator.next();
+            if (playerShip.boundingBox.overlaps(laser.boundingBox)) {
+                if (playerShip.hitAndCheckDestroyed()) {
+                    explosionList.add(new Explosion(new Rectangle(playerShip.boundingBox), 1.6f));
+                    emitDebris(playerShip);
+                    playerShip.shield = 3;
+                    playerShip.lives--;
+                }
+                else {
+                    particleSystem.emit(ParticleSystem.SPARK,
+                            laser.boundingBox.x, laser.boundingBox.y,
+                            8, 0f, 1f, 120f);
+                }
+                iterator.remove();
+            }
+        }
+    }
+
+    private void emitDebris(Ship ship) {
+        particleSystem.emit(ParticleSystem.DEBRIS,
+                ship.boundingBox.x + ship.boundingBox.width / 2,
+                ship.boundingBox.y + ship.boundingBox.height / 2,
+                24, 0f, 1f, 360f);
+    }
+
+    private void updateParticles(float delta) {
+        trailEmissionTimer += delta;
+        while (trailEmissionTimer > timeBetweenTrailEmissions) {
+            particleSystem.emit(ParticleSystem.ENGINE_TRAIL,
+                    playerShip.boundingBox.x + playerShip.boundingBox.width / 2,
+                    playerShip.boundingBox.y,
+                    1, 0f, -1f, 30f);
+            for (Ship enemyShip : enemyShipList) {
+                particleSystem.emit(ParticleSystem.ENGINE_TRAIL,
+                        enemyShip.boundingBox.x + enemyShip.boundingBox.width / 2,
+                        enemyShip.boundingBox.y + enemyShip.boundingBox.height,
+                        1, 0f, 1f, 30f);
+            }
+            trailEmissionTimer -= timeBetweenTrailEmissions;
+        }
+        particleSystem.update(delta);
+    }
+
+    private void detectInput(float delta) {
+        float leftLimit, rightLimit, upLimit, downLimit;
+        leftLimit = -playerShip.boundingBox.x;
+        downLimit = -playerShip.boundingBox.y;
+        rightLimit = WORLD_WIDTH - playerShip.boundingBox.x - playerShip.boundingBox.width;
+        upLimit = WORLD_HEIGHT / 2.0f - playerShip.boundingBox.y - playerShip.boundingBox.height;
+
+        boolean moved = false;
+
+        if (inputState.isKeyActive(Input.Keys.RIGHT) && rightLimit > 0) {
+            playerShip.boundingBox.x += Math.min(delta * playerShip.movementSpeed, rightLimit);
+            moved = true;
+        }
+
+        if (inputState.isKeyActive(Input.Keys.LEFT) && leftLimit < 0) {
+            playerShip.boundingBox.x += Math.max(-delta * playerShip.movementSpeed, leftLimit);
+            moved = true;
+        }
+
+        if (inputState.isKeyActive(Input.Keys.UP) && upLimit > 0) {
+            playerShip.boundingBox.y += Math.min(delta * playerShip.movementSpeed, upLimit);
+            moved = true;
+        }
+
+        if (inputState.isKeyActive(Input.Keys.DOWN) && downLimit < 0) {
+            playerShip.boundingBox.y += Math.max(-delta * playerShip.movementSpeed, downLimit);
+            moved = true;
+        }
+
+        if (moved) {
+            inputState.movementApplied(TimeUtils.nanoTime());
+        }
+    }
+
+    private void moveEnemy(Ship enemyShip, float delta) {
+        float leftLimit, rightLimit, upLimit, downLimit;
+        leftLimit = -enemyShip.boundingBox.x;
+        downLimit = WORLD_HEIGHT / 2.0f - enemyShip.boundingBox.y;
+        rightLimit = WORLD_WIDTH - enemyShip.boundingBox.x - enemyShip.boundingBox.width;
+        upLimit = WORLD_HEIGHT - enemyShip.boundingBox.y - enemyShip.boundingBox.height;
+
+        float xMove = enemyShip.directionVector.x * enemyShip.movementSpeed * delta;
+        float yMove = enemyShip.directionVector.y * enemyShip.movementSpeed * delta;
+
+        xMove = xMove > 0 ? Math.min(xMove, rightLimit) : Math.max(xMove, leftLimit);
+        yMove = yMove > 0 ? Math.min(yMove, upLimit) : Math.max(yMove, downLimit);
+
+        enemyShip.boundingBox.setPosition(enemyShip.boundingBox.x + xMove, enemyShip.boundingBox.y + yMove);
+    }
+
+    private static class Ship {
+        float movementSpeed;
+        int shield;
+        int lives;
+        Rectangle boundingBox;
+        float laserWidth, laserHeight;
+        float laserMovementSpeed;
+        float timeBetweenShots;
+        float timeSinceLastShot = 0f;
+        boolean player;
+
+        Vector2 directionVector = new Vector2(0, -1);
+        float timeSinceLastDirectionChange = 0;
+        float directionChangeFrequency = 0.75f;
+
+        Ship(float movementSpeed, int shield, float width, float height, float xCenter, float yCenter,
+             float laserWidth, float laserHeight, float laserMovementSpeed, float timeBetweenShots,
+             boolean player) {
+            this.movementSpeed = movementSpeed;
+            this.shield = shield;
+            this.boundingBox = new Rectangle(xCenter - width / 2, yCenter - height / 2, width, height);
+            this.laserWidth = laserWidth;
+            this.laserHeight = laserHeight;
+            this.laserMovementSpeed = laserMovementSpeed;
+            this.timeBetweenShots = timeBetweenShots;
+            this.player = player;
+        }
+
+        void update(float deltaTime) {
+            timeSinceLastShot += deltaTime;
+            if (player) {
+                return;
+            }
+            timeSinceLastDirectionChange += deltaTime;
+            if (timeSinceLastDirectionChange > directionChangeFrequency) {
+                double bearing = SpaceShooterGame.random.nextDouble() * 6.283185;
+                directionVector.x = (float) Math.sin(bearing);
+                directionVector.y = (float) Math.cos(bearing);
+                timeSinceLastDirectionChange -= directionChangeFrequency;
+            }
+        }
+
+        boolean canFireLaser() {
+            return timeSinceLastShot - timeBetweenShots >= 0f;
+        }
+
+        Laser[] fireLasers() {
+            Laser[] laser = new Laser[2];
+            if (player) {
+                laser[0] = new Laser(boundingBox.x + boundingBox.width * 0.07f, boundingBox.y + boundingBox.height * 0.45f,
+                        laserWidth, laserHeight, laserMovementSpeed);
+                laser[1] = new Laser(boundingBox.x + boundingBox.width * 0.93f, boundingBox.y + boundingBox.height * 0.45f,
+                        laserWidth, laserHeight, laserMovementSpeed);
+            }
+            else {
+                laser[0] = new Laser(boundingBox.x + boundingBox.width * 0.18f, boundingBox.y - laserHeight,
+                        laserWidth, laserHeight, laserMovementSpeed);
+                laser[1] = new Laser(boundingBox.x + boundingBox.width * 0.82f, boundingBox.y - laserHeight,
+                        laserWidth, laserHeight, laserMovementSpeed);
+            }
+            timeSinceLastShot = 0;
+            return laser;
+        }
+
+        boolean hitAndCheckDestroyed() {
+            if (shield > 0) {
+                shield--;
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private static class Laser {
+        Rectangle boundingBox;
+        float movementSpeed;
+
+        Laser(float xCenter, float yBottom, float width, float height, float movementSpeed) {
+            this.boundingBox = new Rectangle(xCenter - width / 2, yBottom, width, height);
+            this.movementSpeed = movementSpeed;
+        }
+    }
+
+    private static class Explosion {
+        Rectangle boundingBox;
+        float totalAnimationTime;
+        float explosionTimer = 0;
+
+        Explosion(Rectangle boundingBox, float totalAnimationTime) {
+            this.boundingBox = boundingBox;
+            this.totalAnimationTime = totalAnimationTime;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.TimeUtils;
+
+// Autopilot that plays through the same input queue as the keyboard: it only looks at the
+// world and posts key presses, so everything downstream of the input is exercised as in a game.
+class PlaytestBot {
+
+    // extra room kept between the ship and a laser, world units
+    private static final float DODGE_MARGIN = 0.25f;
+    // a move is judged as if it lasted this long and the ship then stopped, seconds. The
+    // decision is taken again every tick, so it rarely keeps going for longer
+    private static final float MOVE_DURATION = 0.2f;
+    // staying put first, so it wins the ties with the other directions
+    private static final int[] CANDIDATE_DIRECTIONS = {0, -1, 1};
+
+    private final GameWorld world;
+    private final LaserSystem.Lasers enemyLasers;
+    private final ImmutableArray<Entity> enemyShips;
+
+    private final boolean[] keysDown = new boolean[Input.Keys.MAX_KEYCODE + 1];
+
+    PlaytestBot(GameWorld world) {
+        this.world = world;
+        this.enemyLasers = world.laserSystem.enemyLasers;
+        this.enemyShips = world.engine.getEntitiesFor(
+                Family.all(EnemyComponent.class, TransformComponent.class, WeaponComponent.class).get());
+    }
+
+    // decides on the input for the next tick, call right before GameWorld.tick
+    void act() {
+        Entity playerShip = world.getPlayerShip();
+        Rectangle playerBoundingBox = Mappers.transform.get(playerShip).boundingBox;
+        float movementSpeed = Mappers.velocity.get(playerShip).movementSpeed;
+
+        // strategy: take the direction with the least danger from the lasers in flight,
+        // on a tie prefer the one towards the aiming point, then staying put
+        int preferredDirection = directionToTarget(playerBoundingBox, Mappers.weapon.get(playerShip), movementSpeed);
+        int direction = preferredDirection;
+        float leastDanger = danger(playerBoundingBox, preferredDirection * movementSpeed);
+        for (int candidate : CANDIDATE_DIRECTIONS) {
+            if (candidate == preferredDirection) {
+                continue;
+            }
+            float candidateDanger = danger(playerBoundingBox, candidate * movementSpeed);
+            if (candidateDanger < leastDanger) {
+                leastDanger = candidateDanger;
+                direction = candidate;
+            }
+        }
+
+        // only sideways, the ship keeps the height it starts at
+        setKey(Input.Keys.LEFT, direction < 0);
+        setKey(Input.Keys.RIGHT, direction > 0);
+    }
+
+    // sum of the lasers in flight that would hit the ship moving horizontally at the given
+    // speed (for MOVE_DURATION at most), the sooner they hit the more they weigh
+    private float danger(Rectangle playerBoundingBox, float xSpeed) {
+        float danger = 0;
+        for (int i = 0; i < enemyLasers.count; i++) {
+            if (enemyLasers.isRemoved(i)) {
+                continue;
+            }
+            float laserX = enemyLasers.x[i], laserY = enemyLasers.y[i];
+            float laserWidth = enemyLasers.width[i], laserHeight = enemyLasers.height[i];
+            float laserSpeed = -enemyLasers.velocityY[i];
+
+            // time until the laser reaches the top of the ship, and until it has passed it
+            float timeToArrive = (laserY - playerBoundingBox.y - playerBoundingBox.height) / laserSpeed;
+            float timeToPass = (laserY + laserHeight - playerBoundingBox.y) / laserSpeed;
+            if (timeToPass < 0) {
+                continue;
+            }
+
+            // the part of the screen the ship sweeps while the laser crosses its height
+            float time = Math.max(0, timeToArrive);
+            float arriveX = shipX(playerBoundingBox, xSpeed, time);
+            float passX = shipX(playerBoundingBox, xSpeed, timeToPass);
+            if (laserX + laserWidth > Math.min(arriveX, passX) - DODGE_MARGIN
+                    && laserX < Math.max(arriveX, passX) + playerBoundingBox.width + DODGE_MARGIN) {
+                danger += 1f / (time + 0.05f);
+            }
+        }
+        return danger;
+    }
+
+    private float shipX(Rectangle playerBoundingBox, float xSpeed, float time) {
+        return MathUtils.clamp(playerBoundingBox.x + xSpeed * Math.min(time, MOVE_DURATION),
+                0, GameWorld.WORLD_WIDTH - playerBoundingBox.width);
+    }
+
+    // aims at the lowest enemy, it is the one whose shots are the most dangerous. Enemy muzzles
+    // are closer together than the ship is wide, so the ship aims from the side: one of its
+    // lasers hits the enemy while the enemy's nearer laser passes just beside it
+    private int directionToTarget(Rectangle playerBoundingBox, WeaponComponent playerWeapon, float movementSpeed) {
+        Entity target = null;
+        float targetY = Float.MAX_VALUE;
+        for (int i = 0; i < enemyShips.size(); i++) {
+            Rectangle boundingBox = Mappers.transform.get(enemyShips.get(i)).boundingBox;
+            if (boundingBox.y < targetY) {
+                targetY = boundingBox.y;
+                target = enemyShips.get(i);
+            }
+        }
+        if (target == null) {
+            return 0;
+        }
+
+        Rectangle enemyBoundingBox = Mappers.transform.get(target).boundingBox;
+        WeaponComponent enemyWeapon = Mappers.weapon.get(target);
+        float playerWidth = playerBoundingBox.width;
+
+        // left of the enemy: our right laser inside the enemy, its left laser right of us
+        float leftAimX = (enemyBoundingBox.x - playerWidth * playerWeapon.rightMuzzleX
+                + enemyBoundingBox.x + enemyBoundingBox.width * enemyWeapon.leftMuzzleX
+                - enemyWeapon.laserWidth / 2 - DODGE_MARGIN - playerWidth) / 2;
+        // right of the enemy: our left laser inside the enemy, its right laser left of us
+        float rightAimX = (enemyBoundingBox.x + enemyBoundingBox.width - playerWidth * playerWeapon.leftMuzzleX
+                + enemyBoundingBox.x + enemyBoundingBox.width * enemyWeapon.rightMuzzleX
+                + enemyWeapon.laserWidth / 2 + DODGE_MARGIN) / 2;
+
+        // the closer side that is on the screen
+        boolean leftReachable = leftAimX >= 0;
+        boolean rightReachable = rightAimX <= GameWorld.WORLD_WIDTH - playerWidth;
+        float aimX;
+        if (leftReachable && (!rightReachable
+                || Math.abs(leftAimX - playerBoundingBox.x) <= Math.abs(rightAimX - playerBoundingBox.x))) {
+            aimX = leftAimX;
+        }
+        else {
+            aimX = rightAimX;
+        }
+
+        float xDifference = aimX - playerBoundingBox.x;
+        // do not overshoot within a single tick
+        if (Math.abs(xDifference) < movementSpeed * GameWorld.TICK_DURATION) {
+            return 0;
+        }
+        return xDifference > 0 ? 1 : -1;
+    }
+
+    private void setKey(int keycode, boolean down) {
+        if (keysDown[keycode] == down) {
+            return;
+        }
+        keysDown[keycode] = down;
+        world.inputEventQueue.post(down ? InputEventQueue.KEY_DOWN : InputEventQueue.KEY_UP,
+                keycode, 0, 0, TimeUtils.nanoTime());
+    }
+}
@@ -0,0 +1,168 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallaxBackgroundTest {
+
+    private static final float WORLD_WIDTH = 72, WORLD_HEIGHT = 128;
+    private static final int LAYER_SIZE = 16;
+    private static final int[] LAYER_COLORS = {0xff0000ff, 0x00ff00ff, 0x0000ffff, 0xffffffff};
+
+    private Texture atlasPage;
+    private TextureRegion[] layers;
+    private ParallaxBackground background;
+
+    @BeforeClass
+    public static void setUpGraphics() {
+        // pixmaps need the natives, textures only need a GL that accepts every call
+        GdxNativesLoader.load();
+        Gdx.graphics = new MockGraphics();
+        Gdx.gl = Gdx.gl20 = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(),
+                new Class<?>[]{GL20.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    @Before
+    public void setUpAtlas() {
+        // an atlas page holding the four layers next to each other, one solid colour each
+        Pixmap pixmap = new Pixmap(LAYER_SIZE * LAYER_COLORS.length, LAYER_SIZE, Pixmap.Format.RGBA8888);
+        for (int i = 0; i < LAYER_COLORS.length; i++) {
+            pixmap.setColor(LAYER_COLORS[i]);
+            pixmap.fillRectangle(i * LAYER_SIZE, 0, LAYER_SIZE, LAYER_SIZE);
+        }
+        atlasPage = new Texture(pixmap);
+        layers = new TextureRegion[LAYER_COLORS.length];
+        for (int i = 0; i < layers.length; i++) {
+            layers[i] = new TextureRegion(atlasPage, i * LAYER_SIZE, 0, LAYER_SIZE, LAYER_SIZE);
+        }
+    }
+
+    @After
+    public void dispose() {
+        if (atlasPage != null) {
+            atlasPage.dispose();
+        }
+    }
+
+    @Test
+    public void drawsTwoQuadsPerLayerFromTheAtlasPage() {
+        background = new ParallaxBackground(layers, new float[]{4, 8, 16, 32}, WORLD_WIDTH, WORLD_HEIGHT);
+        TextureRegion sprite = new TextureRegion(atlasPage, 0, 0, 4, 4);
+
+        // a frame: background first, then the sprites from the same atlas page
+        CountingBatch counter = new CountingBatch();
+        background.draw(counter.batch);
+        assertEquals(2 * LAYER_COLORS.length, counter.quads);
+        counter.batch.draw(sprite, 10, 10, 4, 4);
+        assertEquals(1, counter.textureSwitches);
+    }
+
+    @Test
+    public void stacksTheTwoQuadsOfALayer() {
+        background = new ParallaxBackground(new TextureRegion[]{layers[0]}, new float[]{32},
+                WORLD_WIDTH, WORLD_HEIGHT);
+        CountingBatch counter = new CountingBatch();
+
+        background.update(1);
+        background.draw(counter.batch);
+
+        assertEquals(-32, counter.ys.get(0), 1e-5f);
+        assertEquals(96, counter.ys.get(1), 1e-5f);
+    }
+
+    @Test
+    public void wrapsInsteadOfSnappingBack() {
+        background = new ParallaxBackground(new TextureRegion[]{layers[0]}, new float[]{32},
+                WORLD_WIDTH, WORLD_HEIGHT);
+        CountingBatch counter = new CountingBatch();
+
+        // 144 world units scrolled, 16 past a full screen
+        background.update(1);
+        background.update(3.5f);
+        background.draw(counter.batch);
+
+        assertEquals(-16, counter.ys.get(0), 1e-5f);
+        assertEquals(112, counter.ys.get(1), 1e-5f);
+    }
+
+    @Test
+    public void scrollsEachLayerAtItsOwnSpeed() {
+        background = new ParallaxBackground(layers, new float[]{4, 8, 16, 32}, WORLD_WIDTH, WORLD_HEIGHT);
+        CountingBatch counter = new CountingBatch();
+
+        background.update(5);
+        background.draw(counter.batch);
+
+        // 20, 40, 80 and 160 world units, the last one wrapped to 32
+        float[] expectedOffsets = {20, 40, 80, 32};
+        for (int layer = 0; layer < expectedOffsets.length; layer++) {
+            assertEquals(-expectedOffsets[layer], counter.ys.get(2 * layer), 1e-4f);
+            assertEquals(WORLD_HEIGHT - expectedOffsets[layer], counter.ys.get(2 * layer + 1), 1e-4f);
+        }
+    }
+
+    // counts the quads drawn and how often the texture changes, which flushes a real batch
+    private static class CountingBatch implements InvocationHandler {
+
+        final Batch batch = (Batch) Proxy.newProxyInstance(Batch.class.getClassLoader(),
+                new Class<?>[]{Batch.class}, this);
+
+        int quads = 0;
+        int textureSwitches = 0;
+        final FloatArray ys = new FloatArray(); // bottom of each quad, in draw order
+        private Texture lastTexture;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getName().equals("draw")) {
+                Texture texture = args[0] instanceof TextureRegion
+                        ? ((TextureRegion) args[0]).getTexture() : (Texture) args[0];
+                if (texture != lastTexture) {
+                    textureSwitches++;
+                    lastTexture = texture;
+                }
+                quads++;
+                ys.add((Float) args[2]);
+            }
+            return defaultValue(method.getReturnType());
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
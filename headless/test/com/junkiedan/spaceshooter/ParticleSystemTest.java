@@ -0,0 +1,110 @@
+package com.junkiedan.spaceshooter;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.utils.FloatArray;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParticleSystemTest {
+
+    // the soft limit is three quarters of the capacity
+    private static final int CAPACITY = 100;
+    private static final int SOFT_LIMIT = 75;
+
+    private ParticleSystem particleSystem;
+
+    @Before
+    public void setUp() {
+        // no regions, nothing is rendered for real
+        particleSystem = new ParticleSystem(CAPACITY, null, null, null, new Random(1));
+    }
+
+    @Test
+    public void emitsEverythingBelowTheSoftLimit() {
+        assertEquals(10, emit(ParticleSystem.ENGINE_TRAIL, 10));
+        assertEquals(SOFT_LIMIT - 10, emit(ParticleSystem.SPARK, SOFT_LIMIT - 10));
+        assertEquals(SOFT_LIMIT, particleSystem.getCount());
+    }
+
+    @Test
+    public void dropsTrailsAboveTheSoftLimit() {
+        emit(ParticleSystem.SPARK, SOFT_LIMIT + 1);
+
+        assertEquals(0, emit(ParticleSystem.ENGINE_TRAIL, 5));
+        assertEquals(SOFT_LIMIT + 1, particleSystem.getCount());
+    }
+
+    @Test
+    public void scalesOtherEmissionsDownLinearly() {
+        emit(ParticleSystem.SPARK, 80);
+
+        // 20 of the 25 particles between the soft limit and the capacity are still free
+        assertEquals(8, emit(ParticleSystem.DEBRIS, 10));
+        // 12 of 25 free
+        assertEquals(4, emit(ParticleSystem.SPARK, 10));
+        assertEquals(92, particleSystem.getCount());
+    }
+
+    @Test
+    public void emitsNothingAtCapacity() {
+        assertEquals(CAPACITY, emit(ParticleSystem.SPARK, 1000));
+
+        assertEquals(0, emit(ParticleSystem.DEBRIS, 10));
+        assertEquals(0, emit(ParticleSystem.SPARK, 10));
+        assertEquals(0, emit(ParticleSystem.ENGINE_TRAIL, 10));
+        assertEquals(CAPACITY, particleSystem.getCount());
+    }
+
+    @Test
+    public void compactsExpiredParticlesKeepingTheDrawOrder() {
+        // debris outlives sparks by far: at most 0.3 s for a spark, at least 0.67 s for debris
+        particleSystem.emit(ParticleSystem.DEBRIS, 1, 0, 1, 0, 1, 0);
+        particleSystem.emit(ParticleSystem.SPARK, 2, 0, 1, 0, 1, 0);
+        particleSystem.emit(ParticleSystem.DEBRIS, 3, 0, 1, 0, 1, 0);
+        particleSystem.emit(ParticleSystem.SPARK, 4, 0, 1, 0, 1, 0);
+        particleSystem.emit(ParticleSystem.DEBRIS, 5, 0, 1, 0, 1, 0);
+
+        particleSystem.update(0.5f);
+        assertEquals(3, particleSystem.getCount());
+
+        // particles move straight up, so their x still tells them apart
+        RecordingBatch recorder = new RecordingBatch();
+        particleSystem.draw(recorder.batch, 0);
+        assertEquals(3, recorder.centersX.size);
+        assertEquals(1, recorder.centersX.get(0), 1e-4f);
+        assertEquals(3, recorder.centersX.get(1), 1e-4f);
+        assertEquals(5, recorder.centersX.get(2), 1e-4f);
+
+        // debris lives 1.125 s at most
+        particleSystem.update(0.7f);
+        assertEquals(0, particleSystem.getCount());
+    }
+
+    private int emit(int particleKind, int requested) {
+        return particleSystem.emit(particleKind, 0, 0, requested, 0, 1, 90);
+    }
+
+    // records the center of every quad drawn
+    private static class RecordingBatch implements InvocationHandler {
+
+        final Batch batch = (Batch) Proxy.newProxyInstance(Batch.class.getClassLoader(),
+                new Class<?>[]{Batch.class}, this);
+
+        final FloatArray centersX = new FloatArray();
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getName().equals("draw")) {
+                centersX.add((Float) args[1] + (Float) args[3] / 2);
+            }
+            return method.getReturnType() == float.class ? 0f : null;
+        }
+    }
+}
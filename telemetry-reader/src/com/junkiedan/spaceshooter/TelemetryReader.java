@@ -0,0 +1,183 @@
+package com.junkiedan.spaceshooter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Locale;
+
+// Offline aggregator for the ring files written by TelemetryLog, one per session.
+// usage: TelemetryReader <session file or telemetry directory> [more...]
+public class TelemetryReader {
+
+    // records are mapped in windows so files bigger than 2 GB can be read too
+    private static final int RECORDS_PER_WINDOW = 1 << 20;
+
+    // frame time histogram, 0.1 ms buckets up to 100 ms plus one overflow bucket
+    private static final int FRAME_TIME_BUCKETS = 1001;
+    private static final float FRAME_TIME_BUCKET_SIZE = 0.0001f;
+
+    // aggregates over all files
+    private int sessions = 0;
+    private long records = 0;
+    private long tornRecords = 0;
+    private final long[] recordsPerType = new long[TelemetryLog.FRAME_TIME + 1];
+    private long scoreTotal = 0;
+    private long longestSessionNanos = 0;
+    private final long[] frameTimeHistogram = new long[FRAME_TIME_BUCKETS];
+    private double frameTimeTotal = 0;
+    private float frameTimeMax = 0;
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("usage: TelemetryReader <session file or telemetry directory> [more...]");
+            System.exit(1);
+        }
+
+        TelemetryReader reader = new TelemetryReader();
+        long startTime = System.nanoTime();
+        for (String path : args) {
+            File file = new File(path);
+            if (file.isDirectory()) {
+                for (File sessionFile : TelemetryLog.listSessionFiles(file)) {
+                    reader.readOrSkip(sessionFile);
+                }
+            }
+            else {
+                reader.readOrSkip(file);
+            }
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+
+        reader.printSummary(System.out);
+        System.out.printf(Locale.US, "read %d records in %.1f ms%n", reader.records, elapsedTime / 1e6);
+    }
+
+    // a file that cannot be read is reported and left out, the other files still count
+    void readOrSkip(File file) {
+        try {
+            read(file);
+        } catch (IOException e) {
+            System.err.println(file + ": " + e.getMessage() + ", skipping");
+        }
+    }
+
+    void read(File file) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            if (channel.size() < TelemetryLog.HEADER_SIZE) {
+                throw new IOException("truncated header");
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, TelemetryLog.HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (header.getInt(TelemetryLog.HEADER_MAGIC) != TelemetryLog.MAGIC
+                    || header.getInt(TelemetryLog.HEADER_VERSION) != TelemetryLog.VERSION
+                    || header.getInt(TelemetryLog.HEADER_RECORD_SIZE) != TelemetryLog.RECORD_SIZE) {
+                System.err.println(file + ": not a telemetry log (or an unsupported version), skipping");
+                return;
+            }
+
+            int capacity = header.getInt(TelemetryLog.HEADER_CAPACITY);
+            long writeCount = header.getLong(TelemetryLog.HEADER_WRITE_COUNT);
+            // once the ring has wrapped every slot holds a valid record, order does not
+            // matter for the aggregates so the slots are read in file order
+            long recordCount = Math.min(writeCount, capacity);
+            if (channel.size() < TelemetryLog.HEADER_SIZE + recordCount * TelemetryLog.RECORD_SIZE) {
+                throw new IOException("truncated records");
+            }
+
+            sessions++;
+            long tornRecordsBefore = tornRecords;
+            long sessionNanos = 0;
+            for (long first = 0; first < recordCount; first += RECORDS_PER_WINDOW) {
+                int windowRecords = (int) Math.min(RECORDS_PER_WINDOW, recordCount - first);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        TelemetryLog.HEADER_SIZE + first * TelemetryLog.RECORD_SIZE,
+                        (long) windowRecords * TelemetryLog.RECORD_SIZE);
+                window.order(ByteOrder.LITTLE_ENDIAN);
+                sessionNanos = Math.max(sessionNanos, aggregate(window, first, windowRecords, capacity, writeCount));
+            }
+            longestSessionNanos = Math.max(longestSessionNanos, sessionNanos);
+            records += recordCount - (tornRecords - tornRecordsBefore);
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    // returns the latest timestamp in the window
+    private long aggregate(MappedByteBuffer window, long firstSlot, int windowRecords, int capacity, long writeCount) {
+        long latestTime = 0;
+        for (int i = 0; i < windowRecords; i++) {
+            int offset = i * TelemetryLog.RECORD_SIZE;
+
+            // the last record written to this slot, a crash while it was being overwritten
+            // leaves a different sequence number behind
+            long slot = firstSlot + i;
+            long writeIndex = slot + (writeCount - 1 - slot) / capacity * capacity;
+            if (window.getInt(offset + TelemetryLog.RECORD_SEQUENCE) != (int) (writeIndex + 1)) {
+                tornRecords++;
+                continue;
+            }
+
+            latestTime = Math.max(latestTime, window.getLong(offset + TelemetryLog.RECORD_TIME));
+
+            int type = window.getInt(offset + TelemetryLog.RECORD_TYPE);
+            if (type <= 0 || type >= recordsPerType.length) {
+                continue;
+            }
+            recordsPerType[type]++;
+
+            if (type == TelemetryLog.SCORE_DELTA) {
+                scoreTotal += window.getInt(offset + TelemetryLog.RECORD_VALUE);
+            }
+            else if (type == TelemetryLog.FRAME_TIME) {
+                float frameTime = window.getFloat(offset + TelemetryLog.RECORD_AMOUNT);
+                frameTimeTotal += frameTime;
+                frameTimeMax = Math.max(frameTimeMax, frameTime);
+                int bucket = (int) (frameTime / FRAME_TIME_BUCKET_SIZE);
+                frameTimeHistogram[Math.max(0, Math.min(bucket, FRAME_TIME_BUCKETS - 1))]++;
+            }
+        }
+        return latestTime;
+    }
+
+    private float frameTimePercentile(double percentile) {
+        long frames = recordsPerType[TelemetryLog.FRAME_TIME];
+        long target = (long) Math.ceil(frames * percentile);
+        long seen = 0;
+        for (int bucket = 0; bucket < FRAME_TIME_BUCKETS; bucket++) {
+            seen += frameTimeHistogram[bucket];
+            if (seen >= target) {
+                return (bucket + 1) * FRAME_TIME_BUCKET_SIZE;
+            }
+        }
+        return frameTimeMax;
+    }
+
+    void printSummary(PrintStream out) {
+        out.printf(Locale.US, "sessions:        %d%n", sessions);
+        out.printf(Locale.US, "records:         %d%n", records);
+        if (tornRecords > 0) {
+            out.printf(Locale.US, "torn records:    %d (skipped)%n", tornRecords);
+        }
+        out.printf(Locale.US, "longest session: %.1f s%n", longestSessionNanos / 1e9);
+        out.printf(Locale.US, "spawns:          %d%n", recordsPerType[TelemetryLog.SPAWN]);
+        out.printf(Locale.US, "kills:           %d%n", recordsPerType[TelemetryLog.KILL]);
+        out.printf(Locale.US, "damage taken:    %d%n", recordsPerType[TelemetryLog.DAMAGE_TAKEN]);
+        out.printf(Locale.US, "lives lost:      %d%n", recordsPerType[TelemetryLog.LIFE_LOST]);
+        out.printf(Locale.US, "score total:     %d%n", scoreTotal);
+
+        long frames = recordsPerType[TelemetryLog.FRAME_TIME];
+        if (frames > 0) {
+            out.printf(Locale.US, "frame time:      avg %.2f ms, p50 %.1f ms, p95 %.1f ms, p99 %.1f ms, max %.2f ms (%d samples)%n",
+                    frameTimeTotal / frames * 1000, frameTimePercentile(0.5) * 1000,
+                    frameTimePercentile(0.95) * 1000, frameTimePercentile(0.99) * 1000,
+                    frameTimeMax * 1000, frames);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.junkiedan.spaceshooter;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TelemetryReaderTest {
+
+    private static final int CAPACITY = 8;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsTheLastRecordsOfAWrappedRing() throws IOException {
+        File file = writeSession(11);
+        TelemetryReader reader = new TelemetryReader();
+
+        reader.read(file);
+
+        // writes 3 to 10 are left, with the scores 4 to 11
+        String summary = summary(reader);
+        assertTrue(summary, summary.contains("records:         8\n"));
+        assertTrue(summary, summary.contains("score total:     60\n"));
+        assertFalse(summary, summary.contains("torn records"));
+    }
+
+    @Test
+    public void skipsTheRecordACrashLeftHalfWritten() throws IOException {
+        File file = writeSession(11);
+        // crash right after the next write marked its slot, the oldest record, as in progress
+        zeroSequence(file, 11 % CAPACITY);
+        TelemetryReader reader = new TelemetryReader();
+
+        reader.read(file);
+
+        // write 3 (score 4) is lost, the other seven still count
+        String summary = summary(reader);
+        assertTrue(summary, summary.contains("records:         7\n"));
+        assertTrue(summary, summary.contains("torn records:    1 (skipped)\n"));
+        assertTrue(summary, summary.contains("score total:     56\n"));
+    }
+
+    @Test
+    public void skipsTruncatedFilesAndReadsTheOthers() throws IOException {
+        File truncatedHeader = folder.newFile("session-1.bin");
+        RandomAccessFile randomAccessFile = new RandomAccessFile(truncatedHeader, "rw");
+        randomAccessFile.setLength(TelemetryLog.HEADER_SIZE / 2);
+        randomAccessFile.close();
+
+        File truncatedRecords = writeSession(5);
+        randomAccessFile = new RandomAccessFile(truncatedRecords, "rw");
+        randomAccessFile.setLength(TelemetryLog.HEADER_SIZE + 2 * TelemetryLog.RECORD_SIZE);
+        randomAccessFile.close();
+
+        TelemetryReader reader = new TelemetryReader();
+        reader.readOrSkip(truncatedHeader);
+        reader.readOrSkip(truncatedRecords);
+        reader.readOrSkip(writeSession(3));
+
+        String summary = summary(reader);
+        assertTrue(summary, summary.contains("sessions:        1\n"));
+        assertTrue(summary, summary.contains("records:         3\n"));
+        assertTrue(summary, summary.contains("score total:     6\n"));
+    }
+
+    // a session of score records worth 1, 2, 3, ... in a ring of CAPACITY records
+    private File writeSession(int records) throws IOException {
+        File file = folder.newFile();
+        TelemetryLog telemetryLog = TelemetryLog.open(file, CAPACITY);
+        for (int i = 0; i < records; i++) {
+            telemetryLog.log(TelemetryLog.SCORE_DELTA, i + 1);
+        }
+        telemetryLog.flush();
+        return file;
+    }
+
+    private static void zeroSequence(File file, int slot) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            randomAccessFile.seek(TelemetryLog.HEADER_SIZE + slot * TelemetryLog.RECORD_SIZE + TelemetryLog.RECORD_SEQUENCE);
+            randomAccessFile.writeInt(0);
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    private static String summary(TelemetryReader reader) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(output);
+        reader.printSummary(out);
+        out.flush();
+        return output.toString().replace(System.lineSeparator(), "\n");
+    }
+}